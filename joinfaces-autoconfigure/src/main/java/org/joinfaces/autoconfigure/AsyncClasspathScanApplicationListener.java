@@ -0,0 +1,79 @@
+/*
+ * Copyright 2016-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.joinfaces.autoconfigure;
+
+import lombok.extern.slf4j.Slf4j;
+import org.joinfaces.SharedScanResultProvider;
+
+import org.springframework.aot.AotDetector;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.context.event.ApplicationContextInitializedEvent;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Starts the classpath scan of the {@link SharedScanResultProvider} on a background thread before the application
+ * context is refreshed, if {@code joinfaces.classpath-scan.async} is enabled.
+ * <p>
+ * The scan then overlaps with the parsing of the configuration classes and the creation of the beans, and the
+ * servlet container initializers only have to wait for its result.
+ * The already started provider is registered as bean definition, so the auto-configured one backs off.
+ * This listener does nothing during AOT processing and when running with the generated artifacts.
+ *
+ * @author Lars Grefer
+ * @see ClasspathScanProperties#isAsync()
+ */
+@Slf4j
+public class AsyncClasspathScanApplicationListener implements ApplicationListener<ApplicationContextInitializedEvent> {
+
+	static final String BEAN_NAME = "joinfacesSharedScanResultProvider";
+
+	private static final String AOT_PROCESSING_PROPERTY = "spring.aot.processing";
+
+	@Override
+	public void onApplicationEvent(ApplicationContextInitializedEvent event) {
+		if (event.getSpringApplication().getWebApplicationType() != WebApplicationType.SERVLET
+				|| AotDetector.useGeneratedArtifacts() || Boolean.getBoolean(AOT_PROCESSING_PROPERTY)) {
+			return;
+		}
+
+		ConfigurableApplicationContext applicationContext = event.getApplicationContext();
+
+		if (!(applicationContext.getBeanFactory() instanceof BeanDefinitionRegistry registry)) {
+			return;
+		}
+
+		ClasspathScanProperties properties = Binder.get(applicationContext.getEnvironment())
+				.bindOrCreate("joinfaces.classpath-scan", ClasspathScanProperties.class);
+
+		if (!properties.isAsync()) {
+			return;
+		}
+
+		SharedScanResultProvider scanResultProvider = new SharedScanResultProvider();
+		ClasspathScanPropertiesPostProcessor.applyProperties(scanResultProvider, properties);
+		scanResultProvider.startAsyncScan();
+
+		log.debug("Started asynchronous classpath scan");
+
+		// The bean factory applies the usual lifecycle callbacks to the supplied instance.
+		registry.registerBeanDefinition(BEAN_NAME, new RootBeanDefinition(SharedScanResultProvider.class, () -> scanResultProvider));
+	}
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2016-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.joinfaces.autoconfigure;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import lombok.Data;
+import org.joinfaces.SharedScanResultProvider;
+import org.joinfaces.servlet.ServletContainerInitializerRegistrationBean;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link ConfigurationProperties} for the classpath scans JoinFaces performs at startup.
+ * <p>
+ * These apply to the {@link SharedScanResultProvider} and all {@link ServletContainerInitializerRegistrationBean}s.
+ *
+ * @author Lars Grefer
+ * @see ClasspathScanPropertiesPostProcessor
+ */
+@Data
+@ConfigurationProperties("joinfaces.classpath-scan")
+public class ClasspathScanProperties {
+
+	/**
+	 * Packages (including their sub-packages) to which the classpath scans are restricted.
+	 * Scans all packages if empty.
+	 */
+	private List<String> acceptedPackages = new ArrayList<>();
+
+	/**
+	 * Jars which are excluded from the classpath scans, e.g. 'aws-java-sdk-*.jar'. '*' can be used as wildcard.
+	 */
+	private List<String> rejectedJars = new ArrayList<>();
+
+	/**
+	 * Whether classes are also found by annotated methods and fields.
+	 * Disabling this considerably reduces the time and memory needed to scan the classpath.
+	 */
+	private boolean scanMethodAndFieldAnnotations = true;
+
+	/**
+	 * Whether to start the shared classpath scan on a background thread as early as possible,
+	 * so it overlaps with the creation of the application context.
+	 * This is only useful if no prepared scan results are available.
+	 */
+	private boolean async = false;
+
+	/**
+	 * Whether large prepared and cached scan results are loaded using multiple threads.
+	 * This can speed up the startup on machines with multiple cores and slow class loading.
+	 */
+	private boolean parallelLoading = false;
+
+	/**
+	 * Directory in which the results of classpath scans are cached across restarts, when no prepared scan results
+	 * are available. The cached results are invalidated when the classpath or the scan settings change.
+	 * Caching is disabled if this is not set.
+	 */
+	@Nullable
+	private File cacheDirectory;
+
+	/**
+	 * Overrides for individual servlet container initializers, keyed by their fully qualified class name.
+	 * Initializers with overrides perform their own classpath scan.
+	 */
+	private Map<String, Initializer> initializers = new LinkedHashMap<>();
+
+	/**
+	 * Classpath scan settings of a single servlet container initializer.
+	 * Unset values fall back to the global settings.
+	 *
+	 * @author Lars Grefer
+	 */
+	@Data
+	public static class Initializer {
+
+		/**
+		 * Packages (including their sub-packages) to which the classpath scan is restricted.
+		 */
+		@Nullable
+		private List<String> acceptedPackages;
+
+		/**
+		 * Jars which are excluded from the classpath scan. '*' can be used as wildcard.
+		 */
+		@Nullable
+		private List<String> rejectedJars;
+
+		/**
+		 * Whether classes are also found by annotated methods and fields.
+		 */
+		@Nullable
+		private Boolean scanMethodAndFieldAnnotations;
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2016-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.joinfaces.autoconfigure;
+
+import lombok.RequiredArgsConstructor;
+import org.joinfaces.SharedScanResultProvider;
+import org.joinfaces.servlet.ServletContainerInitializerRegistrationBean;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.ApplicationContext;
+
+/**
+ * {@link BeanPostProcessor} which applies the {@link ClasspathScanProperties} to the
+ * {@link SharedScanResultProvider} and all {@link ServletContainerInitializerRegistrationBean}s.
+ *
+ * @author Lars Grefer
+ */
+@RequiredArgsConstructor
+public class ClasspathScanPropertiesPostProcessor implements BeanPostProcessor {
+
+	private final ApplicationContext applicationContext;
+
+	@Override
+	public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
+		if (bean instanceof SharedScanResultProvider scanResultProvider) {
+			applyProperties(scanResultProvider, getProperties());
+		}
+		else if (bean instanceof ServletContainerInitializerRegistrationBean<?> registrationBean) {
+			applyProperties(registrationBean, getProperties());
+		}
+		return bean;
+	}
+
+	/**
+	 * Applies the given {@link ClasspathScanProperties} to the given {@link ServletContainerInitializerRegistrationBean},
+	 * including the overrides for its initializer.
+	 *
+	 * @param registrationBean The {@link ServletContainerInitializerRegistrationBean}.
+	 * @param properties       The {@link ClasspathScanProperties}.
+	 */
+	public static void applyProperties(ServletContainerInitializerRegistrationBean<?> registrationBean, ClasspathScanProperties properties) {
+		ClasspathScanProperties.Initializer initializer = properties.getInitializers()
+				.get(registrationBean.getServletContainerInitializerClass().getName());
+
+		registrationBean.setAcceptedPackages(properties.getAcceptedPackages());
+		registrationBean.setRejectedJars(properties.getRejectedJars());
+		registrationBean.setScanMethodAndFieldAnnotations(properties.isScanMethodAndFieldAnnotations());
+		registrationBean.setParallelLoading(properties.isParallelLoading());
+		if (properties.getCacheDirectory() != null) {
+			registrationBean.setScanResultCacheDirectory(properties.getCacheDirectory().toPath());
+		}
+
+		if (initializer != null) {
+			// The shared scan uses the global settings.
+			registrationBean.setUseSharedScanResult(false);
+
+			if (initializer.getAcceptedPackages() != null) {
+				registrationBean.setAcceptedPackages(initializer.getAcceptedPackages());
+			}
+			if (initializer.getRejectedJars() != null) {
+				registrationBean.setRejectedJars(initializer.getRejectedJars());
+			}
+			if (initializer.getScanMethodAndFieldAnnotations() != null) {
+				registrationBean.setScanMethodAndFieldAnnotations(initializer.getScanMethodAndFieldAnnotations());
+			}
+		}
+	}
+
+	static void applyProperties(SharedScanResultProvider scanResultProvider, ClasspathScanProperties properties) {
+		scanResultProvider.setAcceptedPackages(properties.getAcceptedPackages());
+		scanResultProvider.setRejectedJars(properties.getRejectedJars());
+		scanResultProvider.setScanMethodAndFieldAnnotations(properties.isScanMethodAndFieldAnnotations());
+	}
+
+	private ClasspathScanProperties getProperties() {
+		return this.applicationContext.getBean(ClasspathScanProperties.class);
+	}
+}
@@ -35,6 +35,8 @@ import io.github.classgraph.ScanResult;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
 import org.joinfaces.ClasspathScanUtil;
+import org.joinfaces.ScanResultCache;
+import org.joinfaces.servlet.ServletContainerInitializerRegistrationBean;
 
 /**
  * Helper methods for the implementations of the AnnotationProvider SPI's of Mojarra and MyFaces.
@@ -68,6 +70,18 @@ public class FacesAnnotationProviderUtil {
 	);
 
 	public static Map<Class<? extends Annotation>, Set<Class<?>>> findAnnotatedClasses(ScanResult scanResult) {
+		return findAnnotatedClasses(scanResult, true);
+	}
+
+	/**
+	 * Finds the classes wanted by the AnnotationProvider SPI's of Mojarra and MyFaces.
+	 *
+	 * @param scanResult                    The {@link ScanResult} to search.
+	 * @param scanMethodAndFieldAnnotations Whether the {@link ScanResult} contains method and field information
+	 *                                      which should be searched as well.
+	 * @return The annotated classes by annotation.
+	 */
+	public static Map<Class<? extends Annotation>, Set<Class<?>>> findAnnotatedClasses(ScanResult scanResult, boolean scanMethodAndFieldAnnotations) {
 
 		Map<Class<? extends Annotation>, Set<Class<?>>> annotatedClasses = new LinkedHashMap<>();
 
@@ -85,8 +99,10 @@ public class FacesAnnotationProviderUtil {
 			Set<Class<?>> classes = new LinkedHashSet<>();
 
 			classes.addAll(scanResult.getClassesWithAnnotation(annotationClass).loadClasses());
-			classes.addAll(scanResult.getClassesWithMethodAnnotation(annotationClass).loadClasses());
-			classes.addAll(scanResult.getClassesWithFieldAnnotation(annotationClass).loadClasses());
+			if (scanMethodAndFieldAnnotations) {
+				classes.addAll(scanResult.getClassesWithMethodAnnotation(annotationClass).loadClasses());
+				classes.addAll(scanResult.getClassesWithFieldAnnotation(annotationClass).loadClasses());
+			}
 
 			annotatedClasses.put(annotationClass, classes);
 		}
@@ -94,9 +110,48 @@ public class FacesAnnotationProviderUtil {
 		return annotatedClasses;
 	}
 
+	/**
+	 * Reads the prepared scan result for the given AnnotationProvider SPI.
+	 * <p>
+	 * The listed classes are only loaded once the faces implementation accesses them,
+	 * so classes it filters out or never looks at don't have to be loaded at startup.
+	 *
+	 * @param spiClass    The AnnotationProvider SPI class.
+	 * @param classLoader The {@link ClassLoader} used to load the classes.
+	 * @return The prepared scan result, if present.
+	 */
 	public static Optional<Map<Class<? extends Annotation>, Set<Class<?>>>> findPreparedScanResult(Class<?> spiClass, ClassLoader classLoader) {
 		String resourceName = "META-INF/joinfaces/" + spiClass.getName() + ".classes";
-		return ClasspathScanUtil.readClassMap(resourceName, classLoader);
+		return ClasspathScanUtil.readLazyClassMap(resourceName, classLoader);
+	}
+
+	/**
+	 * Reads the scan result for the given AnnotationProvider SPI persisted by a previous start.
+	 *
+	 * @param spiClass         The AnnotationProvider SPI class.
+	 * @param registrationBean The registration bean of the faces implementation, which holds the cache settings.
+	 * @param classLoader      The {@link ClassLoader} used to load the classes.
+	 * @return The cached scan result, if present and neither the classpath nor the configuration changed since.
+	 * @see ScanResultCache
+	 */
+	public static Optional<Map<Class<? extends Annotation>, Set<Class<?>>>> findCachedScanResult(Class<?> spiClass, ServletContainerInitializerRegistrationBean<?> registrationBean, ClassLoader classLoader) {
+		if (!registrationBean.isUseScanResultCache()) {
+			return Optional.empty();
+		}
+		return ScanResultCache.readClassMap(registrationBean.getScanResultCacheDirectory(), spiClass.getName(), registrationBean.getScanConfiguration(), classLoader, registrationBean.isParallelLoading());
+	}
+
+	/**
+	 * Persists the scan result for the given AnnotationProvider SPI, so it can be reused by the next start.
+	 *
+	 * @param spiClass         The AnnotationProvider SPI class.
+	 * @param registrationBean The registration bean of the faces implementation, which holds the cache settings.
+	 * @param annotatedClasses The scan result.
+	 * @param classLoader      The {@link ClassLoader} whose classpath the scan result belongs to.
+	 * @see ScanResultCache
+	 */
+	public static void writeCachedScanResult(Class<?> spiClass, ServletContainerInitializerRegistrationBean<?> registrationBean, Map<Class<? extends Annotation>, Set<Class<?>>> annotatedClasses, ClassLoader classLoader) {
+		ScanResultCache.writeClassMap(registrationBean.getScanResultCacheDirectory(), spiClass.getName(), registrationBean.getScanConfiguration(), annotatedClasses, classLoader);
 	}
 
 
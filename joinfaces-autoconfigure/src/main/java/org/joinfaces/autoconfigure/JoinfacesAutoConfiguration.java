@@ -16,12 +16,16 @@
 
 package org.joinfaces.autoconfigure;
 
+import org.joinfaces.SharedScanResultProvider;
+
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.autoconfigure.web.servlet.ConditionalOnMissingFilterBean;
 import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.web.servlet.filter.OrderedRequestContextFilter;
+import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.web.context.request.RequestContextListener;
@@ -34,6 +38,7 @@ import org.springframework.web.filter.RequestContextFilter;
  */
 @AutoConfiguration(after = WebMvcAutoConfiguration.class)
 @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@EnableConfigurationProperties(ClasspathScanProperties.class)
 @ImportRuntimeHints(JoinfacesRuntimeHintsRegistrar.class)
 public class JoinfacesAutoConfiguration {
 
@@ -49,4 +54,21 @@ public class JoinfacesAutoConfiguration {
 	public static RequestContextFilter requestContextFilter() {
 		return new OrderedRequestContextFilter();
 	}
+
+	@Bean
+	public static ClasspathScanPropertiesPostProcessor joinfacesClasspathScanPropertiesPostProcessor(ApplicationContext applicationContext) {
+		return new ClasspathScanPropertiesPostProcessor(applicationContext);
+	}
+
+	/**
+	 * The {@link SharedScanResultProvider} which lets all classpath scans performed at startup share a single
+	 * ClassGraph scan.
+	 *
+	 * @return The {@link SharedScanResultProvider} Bean.
+	 */
+	@Bean(AsyncClasspathScanApplicationListener.BEAN_NAME)
+	@ConditionalOnMissingBean
+	public SharedScanResultProvider joinfacesSharedScanResultProvider() {
+		return new SharedScanResultProvider();
+	}
 }
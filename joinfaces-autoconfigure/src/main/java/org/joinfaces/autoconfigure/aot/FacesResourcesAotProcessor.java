@@ -0,0 +1,70 @@
+/*
+ * Copyright 2016-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.joinfaces.autoconfigure.aot;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Set;
+
+import org.joinfaces.SpiUtils;
+
+import org.springframework.aot.generate.GenerationContext;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationCode;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.util.ClassUtils;
+
+/**
+ * AOT Processor which prepares the list of faces-config and facelet taglib resources used by {@link SpiUtils}.
+ *
+ * @author Lars Grefer
+ */
+public class FacesResourcesAotProcessor implements BeanFactoryInitializationAotProcessor {
+
+	@Override
+	public BeanFactoryInitializationAotContribution processAheadOfTime(ConfigurableListableBeanFactory beanFactory) {
+		if (!ClassUtils.isPresent("jakarta.faces.context.FacesContext", beanFactory.getBeanClassLoader())) {
+			return null;
+		}
+
+		return new Contrib(beanFactory.getBeanClassLoader());
+	}
+
+	static class Contrib implements BeanFactoryInitializationAotContribution {
+
+		private final PathMatchingResourcePatternResolver resourcePatternResolver;
+
+		Contrib(ClassLoader classLoader) {
+			this.resourcePatternResolver = new PathMatchingResourcePatternResolver(classLoader);
+		}
+
+		@Override
+		public void applyTo(GenerationContext generationContext, BeanFactoryInitializationCode beanFactoryInitializationCode) {
+			Set<String> resourceNames;
+			try {
+				resourceNames = SpiUtils.findResourceNames(this.resourcePatternResolver);
+			}
+			catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+
+			SpiUtils.writePreparedResourceNames(generationContext, resourceNames);
+		}
+	}
+}
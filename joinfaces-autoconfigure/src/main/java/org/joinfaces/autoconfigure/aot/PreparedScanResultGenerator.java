@@ -0,0 +1,201 @@
+/*
+ * Copyright 2016-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.joinfaces.autoconfigure.aot;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.ServiceLoader;
+
+import jakarta.servlet.ServletContainerInitializer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.joinfaces.autoconfigure.ClasspathScanProperties;
+import org.joinfaces.autoconfigure.ClasspathScanPropertiesPostProcessor;
+import org.joinfaces.servlet.ServletContainerInitializerRegistrationBean;
+
+import org.springframework.aot.generate.ClassNameGenerator;
+import org.springframework.aot.generate.DefaultGenerationContext;
+import org.springframework.aot.generate.FileSystemGeneratedFiles;
+import org.springframework.aot.generate.GeneratedClass;
+import org.springframework.aot.generate.GeneratedMethods;
+import org.springframework.aot.generate.GenerationContext;
+import org.springframework.aot.generate.MethodReference;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationCode;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.boot.context.config.ConfigDataEnvironmentPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.support.SpringFactoriesLoader;
+import org.springframework.javapoet.ClassName;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.FileSystemUtils;
+
+/**
+ * Generates the prepared scan results under {@code META-INF/joinfaces/} at build time,
+ * without running the Spring AOT processing of the whole application.
+ * <p>
+ * This runs the JoinFaces {@link BeanFactoryInitializationAotProcessor AOT processors} against the classpath of
+ * the current JVM, so it has to be run with the runtime classpath of the application, e.g. using Gradle's
+ * {@code JavaExec} task or the {@code exec-maven-plugin}.
+ * <p>
+ * Arguments: {@code <outputDirectory> [servletContainerInitializerClass...]}.
+ * The generated resources are written to the output directory, which should be part of the application jar.
+ * If no {@link ServletContainerInitializer} classes are given, all initializers registered through
+ * {@link ServiceLoader} are used.
+ * <p>
+ * The {@link ClasspathScanProperties} are read from the config data of the application
+ * (e.g. {@code application.properties}, profiles can be activated through {@code -Dspring.profiles.active}),
+ * so the prepared scan results are restricted the same way as the classpath scans at runtime.
+ *
+ * @author Lars Grefer
+ */
+@Slf4j
+public final class PreparedScanResultGenerator {
+
+	private static final String AOT_FACTORIES = "META-INF/spring/aot.factories";
+
+	private PreparedScanResultGenerator() {
+	}
+
+	public static void main(String[] args) throws ClassNotFoundException, IOException {
+		if (args.length < 1) {
+			throw new IllegalArgumentException("Usage: " + PreparedScanResultGenerator.class.getName() + " <outputDirectory> [servletContainerInitializerClass...]");
+		}
+
+		Path outputDirectory = Paths.get(args[0]);
+		ClassLoader classLoader = PreparedScanResultGenerator.class.getClassLoader();
+
+		List<Class<? extends ServletContainerInitializer>> initializerClasses = new ArrayList<>();
+		for (String initializerClassName : Arrays.asList(args).subList(1, args.length)) {
+			initializerClasses.add(ClassUtils.forName(initializerClassName, classLoader).asSubclass(ServletContainerInitializer.class));
+		}
+
+		if (initializerClasses.isEmpty()) {
+			ServiceLoader.load(ServletContainerInitializer.class, classLoader).stream()
+					.map(ServiceLoader.Provider::type)
+					.forEach(initializerClasses::add);
+		}
+
+		generate(outputDirectory, initializerClasses, classLoader);
+	}
+
+	/**
+	 * Generates the prepared scan results, using the config data of the application.
+	 *
+	 * @param outputDirectory    The directory the resources are written to.
+	 * @param initializerClasses The {@link ServletContainerInitializer} classes whose handled types should be prepared.
+	 * @param classLoader        The {@link ClassLoader} used to find the JoinFaces AOT processors and the config data.
+	 * @throws IOException if stale prepared scan results could not be deleted.
+	 */
+	public static void generate(Path outputDirectory, List<Class<? extends ServletContainerInitializer>> initializerClasses, ClassLoader classLoader) throws IOException {
+		ConfigurableEnvironment environment = new StandardEnvironment();
+		ConfigDataEnvironmentPostProcessor.applyTo(environment, new DefaultResourceLoader(classLoader), null);
+
+		generate(outputDirectory, initializerClasses, classLoader, environment);
+	}
+
+	/**
+	 * Generates the prepared scan results.
+	 *
+	 * @param outputDirectory    The directory the resources are written to.
+	 * @param initializerClasses The {@link ServletContainerInitializer} classes whose handled types should be prepared.
+	 * @param classLoader        The {@link ClassLoader} used to find the JoinFaces AOT processors.
+	 * @param environment        The {@link Environment} the {@link ClasspathScanProperties} are bound from.
+	 * @throws IOException if stale prepared scan results could not be deleted.
+	 */
+	public static void generate(Path outputDirectory, List<Class<? extends ServletContainerInitializer>> initializerClasses, ClassLoader classLoader, Environment environment) throws IOException {
+		long start = System.nanoTime();
+
+		ClasspathScanProperties classpathScanProperties = Binder.get(environment)
+				.bindOrCreate("joinfaces.classpath-scan", ClasspathScanProperties.class);
+
+		// Existing files can't be overwritten, so remove the results of previous runs.
+		FileSystemUtils.deleteRecursively(outputDirectory.resolve("META-INF/joinfaces"));
+
+		GenerationContext generationContext = new DefaultGenerationContext(
+				new ClassNameGenerator(ClassName.get(PreparedScanResultGenerator.class)),
+				new FileSystemGeneratedFiles(kind -> outputDirectory)
+		);
+
+		// The AOT processor for ServletContainerInitializerRegistrationBeans looks up the beans in the bean factory.
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+		for (Class<? extends ServletContainerInitializer> initializerClass : initializerClasses) {
+			ServletContainerInitializerRegistrationBean<?> registrationBean = new ServletContainerInitializerRegistrationBean<>(initializerClass);
+			ClasspathScanPropertiesPostProcessor.applyProperties(registrationBean, classpathScanProperties);
+			beanFactory.registerSingleton(initializerClass.getName(), registrationBean);
+		}
+
+		BeanFactoryInitializationCode beanFactoryInitializationCode = new ResourcesOnlyInitializationCode(generationContext);
+
+		List<BeanFactoryInitializationAotProcessor> aotProcessors = SpringFactoriesLoader.forResourceLocation(AOT_FACTORIES, classLoader)
+				.load(BeanFactoryInitializationAotProcessor.class);
+
+		for (BeanFactoryInitializationAotProcessor aotProcessor : aotProcessors) {
+			if (!aotProcessor.getClass().getName().startsWith("org.joinfaces.")) {
+				continue;
+			}
+
+			BeanFactoryInitializationAotContribution contribution = aotProcessor.processAheadOfTime(beanFactory);
+			if (contribution != null) {
+				log.debug("Applying {}", aotProcessor.getClass().getName());
+				contribution.applyTo(generationContext, beanFactoryInitializationCode);
+			}
+		}
+
+		log.info("Generating prepared scan results in {} took {}ms", outputDirectory, (System.nanoTime() - start) / 1_000_000);
+	}
+
+	/**
+	 * {@link BeanFactoryInitializationCode} for the contributions of the JoinFaces AOT processors, which only generate
+	 * resources. Generated code is not written, as there is no application whose initialization it could be part of.
+	 *
+	 * @author Lars Grefer
+	 */
+	@RequiredArgsConstructor
+	private static final class ResourcesOnlyInitializationCode implements BeanFactoryInitializationCode {
+
+		private final GenerationContext generationContext;
+
+		@Nullable
+		private GeneratedClass generatedClass;
+
+		@Override
+		public GeneratedMethods getMethods() {
+			if (this.generatedClass == null) {
+				this.generatedClass = this.generationContext.getGeneratedClasses()
+						.addForFeature("PreparedScanResults", type -> { });
+			}
+			return this.generatedClass.getMethods();
+		}
+
+		@Override
+		public void addInitializer(MethodReference methodReference) {
+			log.warn("Ignoring bean factory initializer {}, only resources are generated.", methodReference);
+		}
+	}
+}
@@ -61,8 +61,16 @@ public class JoinFacesAnnotationProvider extends AnnotationProvider {
 				.getRequiredWebApplicationContext(this.servletContext)
 				.getBeanProvider(MojarraInitializerRegistrationBean.class)
 				.getIfAvailable();
-		if (registrationBean != null && registrationBean.getAnnotatedClasses() != null) {
-			return registrationBean.getAnnotatedClasses();
+		if (registrationBean != null) {
+			if (registrationBean.getAnnotatedClasses() != null) {
+				return registrationBean.getAnnotatedClasses();
+			}
+
+			var cachedScanResult = FacesAnnotationProviderUtil.findCachedScanResult(AnnotationProvider.class, registrationBean, classLoader);
+
+			if (cachedScanResult.isPresent()) {
+				return cachedScanResult.get();
+			}
 		}
 
 		return this.wrappedAnnotationProvider.getAnnotatedClasses(urls);
@@ -21,12 +21,15 @@ import java.util.Map;
 import java.util.Set;
 
 import com.sun.faces.config.FacesInitializer;
+import com.sun.faces.spi.AnnotationProvider;
 import io.github.classgraph.ScanResult;
 import lombok.AccessLevel;
 import lombok.Getter;
 import org.joinfaces.autoconfigure.FacesAnnotationProviderUtil;
 import org.joinfaces.servlet.ServletContainerInitializerRegistrationBean;
 
+import org.springframework.lang.Nullable;
+
 /**
  * Servlet Context Initializer of Mojarra.
  *
@@ -45,6 +48,19 @@ public class MojarraInitializerRegistrationBean extends ServletContainerInitiali
 	protected void handleScanResult(ScanResult scanResult) {
 		super.handleScanResult(scanResult);
 
-		this.annotatedClasses = FacesAnnotationProviderUtil.findAnnotatedClasses(scanResult);
+		this.annotatedClasses = FacesAnnotationProviderUtil.findAnnotatedClasses(scanResult, isScanMethodAndFieldAnnotations());
+	}
+
+	@Override
+	@Nullable
+	protected Set<Class<?>> getClasses(ClassLoader classLoader) {
+		Set<Class<?>> classes = super.getClasses(classLoader);
+
+		// Write the cache with the same ClassLoader JoinFacesAnnotationProvider uses to read it.
+		if (this.annotatedClasses != null && isUseScanResultCache()) {
+			FacesAnnotationProviderUtil.writeCachedScanResult(AnnotationProvider.class, this, this.annotatedClasses, classLoader);
+		}
+
+		return classes;
 	}
 }
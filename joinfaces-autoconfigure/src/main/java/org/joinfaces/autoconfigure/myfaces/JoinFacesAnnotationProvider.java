@@ -63,8 +63,16 @@ public class JoinFacesAnnotationProvider extends AnnotationProviderWrapper {
 				.getRequiredWebApplicationContext(servletContext)
 				.getBeanProvider(MyFacesInitializerRegistrationBean.class)
 				.getIfAvailable();
-		if (registrationBean != null && registrationBean.getAnnotatedClasses() != null) {
-			return registrationBean.getAnnotatedClasses();
+		if (registrationBean != null) {
+			if (registrationBean.getAnnotatedClasses() != null) {
+				return registrationBean.getAnnotatedClasses();
+			}
+
+			var cachedScanResult = FacesAnnotationProviderUtil.findCachedScanResult(AnnotationProvider.class, registrationBean, classLoader);
+
+			if (cachedScanResult.isPresent()) {
+				return cachedScanResult.get();
+			}
 		}
 
 		return super.getAnnotatedClasses(ctx);
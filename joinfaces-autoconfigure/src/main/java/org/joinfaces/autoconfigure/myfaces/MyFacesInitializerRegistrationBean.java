@@ -25,9 +25,12 @@ import jakarta.servlet.ServletContainerInitializer;
 import io.github.classgraph.ScanResult;
 import lombok.AccessLevel;
 import lombok.Getter;
+import org.apache.myfaces.spi.AnnotationProvider;
 import org.joinfaces.autoconfigure.FacesAnnotationProviderUtil;
 import org.joinfaces.servlet.ServletContainerInitializerRegistrationBean;
 
+import org.springframework.lang.Nullable;
+
 /**
  * Servlet context initializer of MyFaces.
  *
@@ -50,6 +53,19 @@ public class MyFacesInitializerRegistrationBean<T extends ServletContainerInitia
 	protected void handleScanResult(ScanResult scanResult) {
 		super.handleScanResult(scanResult);
 
-		this.annotatedClasses = FacesAnnotationProviderUtil.findAnnotatedClasses(scanResult);
+		this.annotatedClasses = FacesAnnotationProviderUtil.findAnnotatedClasses(scanResult, isScanMethodAndFieldAnnotations());
+	}
+
+	@Override
+	@Nullable
+	protected Set<Class<?>> getClasses(ClassLoader classLoader) {
+		Set<Class<?>> classes = super.getClasses(classLoader);
+
+		// Write the cache with the same ClassLoader JoinFacesAnnotationProvider uses to read it.
+		if (this.annotatedClasses != null && isUseScanResultCache()) {
+			FacesAnnotationProviderUtil.writeCachedScanResult(AnnotationProvider.class, this, this.annotatedClasses, classLoader);
+		}
+
+		return classes;
 	}
 }
@@ -21,6 +21,7 @@ import java.util.stream.Collectors;
 
 import jakarta.servlet.DispatcherType;
 
+import org.joinfaces.autoconfigure.ClasspathScanProperties;
 import org.joinfaces.rewrite.SpringBootAnnotationConfigProvider;
 import org.joinfaces.servlet.WebFragmentRegistrationBean;
 import org.ocpsoft.rewrite.servlet.RewriteFilter;
@@ -28,6 +29,7 @@ import org.ocpsoft.rewrite.servlet.impl.RewriteServletContextListener;
 import org.ocpsoft.rewrite.servlet.impl.RewriteServletRequestListener;
 import org.ocpsoft.rewrite.spring.SpringExpressionLanguageProvider;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnNotWarDeployment;
@@ -102,11 +104,14 @@ public class RewriteAutoConfiguration {
 	 * {@link org.ocpsoft.rewrite.servlet.config.HttpConfigurationProvider} which scans for Rewrite annotations within
 	 * the classpath.
 	 *
+	 * @param classpathScanProperties The global classpath scan settings, if available.
 	 * @return rewrite annotation scanner
 	 */
 	@Bean
 	@ConfigurationProperties("joinfaces.rewrite.annotation-config-provider")
-	public SpringBootAnnotationConfigProvider rewriteAnnotationConfigProvider() {
-		return new SpringBootAnnotationConfigProvider();
+	public SpringBootAnnotationConfigProvider rewriteAnnotationConfigProvider(ObjectProvider<ClasspathScanProperties> classpathScanProperties) {
+		SpringBootAnnotationConfigProvider annotationConfigProvider = new SpringBootAnnotationConfigProvider();
+		classpathScanProperties.ifAvailable(properties -> annotationConfigProvider.setParallelLoading(properties.isParallelLoading()));
+		return annotationConfigProvider;
 	}
 }
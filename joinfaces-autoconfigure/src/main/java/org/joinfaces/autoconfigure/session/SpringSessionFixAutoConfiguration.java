@@ -21,17 +21,26 @@ import java.util.stream.Collectors;
 
 import jakarta.servlet.DispatcherType;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.joinfaces.session.ChangeDetector;
+import org.joinfaces.session.MicrometerSpringSessionFixObserver;
+import org.joinfaces.session.SerializationChangeDetector;
 import org.joinfaces.session.SpringSessionFixFilter;
+import org.joinfaces.session.SpringSessionFixObserver;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.autoconfigure.session.SessionAutoConfiguration;
 import org.springframework.boot.autoconfigure.session.SessionProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.lang.Nullable;
 import org.springframework.session.SessionRepository;
 import org.springframework.session.web.http.SessionRepositoryFilter;
@@ -43,23 +52,51 @@ import org.springframework.session.web.http.SessionRepositoryFilter;
  * @author Lars Grefer
  * @see org.springframework.boot.autoconfigure.session.SessionRepositoryFilterConfiguration
  */
-@AutoConfiguration(after = SessionAutoConfiguration.class)
+@AutoConfiguration(
+		after = SessionAutoConfiguration.class,
+		afterName = "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration"
+)
 @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
-@EnableConfigurationProperties(SessionProperties.class)
+@EnableConfigurationProperties({SessionProperties.class, SpringSessionFixProperties.class})
 @ConditionalOnClass(SessionRepository.class)
 public class SpringSessionFixAutoConfiguration {
 
 	@Bean
 	@ConditionalOnBean(SessionRepositoryFilter.class)
 	public FilterRegistrationBean<SpringSessionFixFilter> springSessionFixFilterRegistrationBean(
-			SessionProperties sessionProperties
+			SessionProperties sessionProperties,
+			SpringSessionFixProperties springSessionFixProperties,
+			ObjectProvider<ChangeDetector> changeDetector,
+			ObjectProvider<SpringSessionFixObserver> observer
 	) {
-		FilterRegistrationBean<SpringSessionFixFilter> registrationBean = new FilterRegistrationBean<>(new SpringSessionFixFilter());
+		SpringSessionFixFilter springSessionFixFilter = new SpringSessionFixFilter();
+		springSessionFixFilter.setChangeDetector(changeDetector.getIfAvailable(() -> createChangeDetector(springSessionFixProperties)));
+		observer.ifAvailable(springSessionFixFilter::setObserver);
+		springSessionFixFilter.setImmutableTypes(springSessionFixProperties.getImmutableTypes());
+		springSessionFixFilter.setIncludedAttributeNames(springSessionFixProperties.getIncludedAttributeNames());
+		springSessionFixFilter.setExcludedAttributeNames(springSessionFixProperties.getExcludedAttributeNames());
+
+		FilterRegistrationBean<SpringSessionFixFilter> registrationBean = new FilterRegistrationBean<>(springSessionFixFilter);
 		registrationBean.setOrder(sessionProperties.getServlet().getFilterOrder() + 1);
 		registrationBean.setDispatcherTypes(getDispatcherTypes(sessionProperties));
 		return registrationBean;
 	}
 
+	/**
+	 * Creates the {@link ChangeDetector} for the configured {@link SpringSessionFixProperties#getChangeDetection() change detection},
+	 * if no {@link ChangeDetector} bean is present.
+	 *
+	 * @param springSessionFixProperties The {@link SpringSessionFixProperties}.
+	 * @return The {@link ChangeDetector}, or {@code null} if all mutable attributes are re-set.
+	 */
+	@Nullable
+	private static ChangeDetector createChangeDetector(SpringSessionFixProperties springSessionFixProperties) {
+		return switch (springSessionFixProperties.getChangeDetection()) {
+			case NONE -> null;
+			case SERIALIZATION -> new SerializationChangeDetector();
+		};
+	}
+
 	@Nullable
 	private EnumSet<DispatcherType> getDispatcherTypes(SessionProperties sessionProperties) {
 		SessionProperties.Servlet servletProperties = sessionProperties.getServlet();
@@ -69,4 +106,22 @@ public class SpringSessionFixAutoConfiguration {
 		return servletProperties.getFilterDispatcherTypes().stream().map((type) -> DispatcherType.valueOf(type.name()))
 				.collect(Collectors.collectingAndThen(Collectors.toSet(), EnumSet::copyOf));
 	}
+
+	/**
+	 * Records the work of the {@link SpringSessionFixFilter} as Micrometer meters.
+	 *
+	 * @author Lars Grefer
+	 */
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass(MeterRegistry.class)
+	@ConditionalOnBean(MeterRegistry.class)
+	@ConditionalOnProperty(value = "joinfaces.session-fix.metrics.enabled", havingValue = "true", matchIfMissing = true)
+	public static class SpringSessionFixMetricsConfiguration {
+
+		@Bean
+		@ConditionalOnMissingBean(SpringSessionFixObserver.class)
+		public MicrometerSpringSessionFixObserver micrometerSpringSessionFixObserver(MeterRegistry meterRegistry, SpringSessionFixProperties springSessionFixProperties) {
+			return new MicrometerSpringSessionFixObserver(meterRegistry, springSessionFixProperties.getMetrics().isEstimateSize());
+		}
+	}
 }
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2016-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.joinfaces.autoconfigure.session;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import lombok.Data;
+import org.joinfaces.session.SpringSessionFixFilter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * {@link ConfigurationProperties} for the {@link SpringSessionFixFilter}.
+ *
+ * @author Lars Grefer
+ * @see SpringSessionFixAutoConfiguration
+ */
+@Data
+@ConfigurationProperties("joinfaces.session-fix")
+public class SpringSessionFixProperties {
+
+	/**
+	 * How changed session attributes are detected.
+	 */
+	private ChangeDetection changeDetection = ChangeDetection.NONE;
+
+	/**
+	 * Types whose instances are immutable and therefore never re-set. Subtypes are considered immutable, too.
+	 * Primitive wrappers are always considered immutable.
+	 */
+	private Set<Class<?>> immutableTypes = new LinkedHashSet<>(SpringSessionFixFilter.DEFAULT_IMMUTABLE_TYPES);
+
+	/**
+	 * Names of session attributes which are always re-set after they were read. '*' can be used as wildcard.
+	 * By default, this contains the logical view map of Mojarra, which changes on almost every request.
+	 */
+	private Set<String> includedAttributeNames = new LinkedHashSet<>(Set.of("com.sun.faces.renderkit.ServerSideStateHelper.LogicalViewMap"));
+
+	/**
+	 * Names of session attributes which are never re-set. '*' can be used as wildcard.
+	 */
+	private Set<String> excludedAttributeNames = new LinkedHashSet<>();
+
+	private final Metrics metrics = new Metrics();
+
+	/**
+	 * Micrometer metrics of the {@link SpringSessionFixFilter}.
+	 */
+	@Data
+	public static class Metrics {
+
+		/**
+		 * Whether to record Micrometer metrics, if a MeterRegistry is present.
+		 */
+		private boolean enabled = true;
+
+		/**
+		 * Whether to estimate the size of re-set attributes by serializing them. This is expensive.
+		 */
+		private boolean estimateSize = false;
+	}
+
+	/**
+	 * Strategies to detect changed session attributes.
+	 */
+	public enum ChangeDetection {
+		/**
+		 * Re-set all mutable attributes read during the request.
+		 */
+		NONE,
+		/**
+		 * Only re-set attributes whose serialized form changed during the request.
+		 *
+		 * @see org.joinfaces.session.SerializationChangeDetector
+		 */
+		SERIALIZATION
+	}
+}
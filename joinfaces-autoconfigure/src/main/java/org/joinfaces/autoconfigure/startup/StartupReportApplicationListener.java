@@ -0,0 +1,52 @@
+/*
+ * Copyright 2016-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.joinfaces.autoconfigure.startup;
+
+import org.joinfaces.StartupReport;
+
+import org.springframework.boot.context.event.ApplicationContextInitializedEvent;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.boot.context.event.SpringApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.metrics.ApplicationStartup;
+
+/**
+ * Connects the {@link StartupReport} to the {@link org.springframework.core.metrics.ApplicationStartup} of the
+ * application.
+ * <p>
+ * This has to happen before the context is refreshed, because most of the reported steps run while the embedded
+ * web server is created.
+ * Once the context has been refreshed, the {@link StartupReport} is cleared and disconnected again, so it doesn't
+ * keep growing or report to the {@link org.springframework.core.metrics.ApplicationStartup} of a stale context.
+ *
+ * @author Lars Grefer
+ */
+public class StartupReportApplicationListener implements ApplicationListener<SpringApplicationEvent> {
+
+	@Override
+	public void onApplicationEvent(SpringApplicationEvent event) {
+		if (event instanceof ApplicationContextInitializedEvent initializedEvent) {
+			StartupReport.clear();
+			StartupReport.setApplicationStartup(initializedEvent.getApplicationContext().getApplicationStartup());
+		}
+		else if (event instanceof ApplicationStartedEvent) {
+			// The StartupReportEndpoint has taken its snapshot on ContextRefreshedEvent.
+			StartupReport.clear();
+			StartupReport.setApplicationStartup(ApplicationStartup.DEFAULT);
+		}
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2016-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.joinfaces.autoconfigure.startup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.joinfaces.StartupReport;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link Endpoint @Endpoint} which exposes the {@link StartupReport} of JoinFaces.
+ * <p>
+ * The steps are taken from the {@link StartupReport} once the own application context has been refreshed,
+ * so each context only exposes the steps of its own startup.
+ *
+ * @author Lars Grefer
+ */
+@Endpoint(id = "joinfacesstartup")
+public class StartupReportEndpoint implements ApplicationListener<ContextRefreshedEvent>, ApplicationContextAware {
+
+	@Nullable
+	private ApplicationContext applicationContext;
+
+	private final List<StartupReport.Entry> entries = new ArrayList<>();
+
+	@Override
+	public void setApplicationContext(ApplicationContext applicationContext) {
+		this.applicationContext = applicationContext;
+	}
+
+	@Override
+	public synchronized void onApplicationEvent(ContextRefreshedEvent event) {
+		// Events of child contexts are also published here.
+		if (event.getApplicationContext() == this.applicationContext) {
+			this.entries.clear();
+			this.entries.addAll(StartupReport.drainEntries());
+		}
+	}
+
+	@ReadOperation
+	public synchronized StartupReportDescriptor startupReport() {
+		List<StepDescriptor> steps = this.entries.stream()
+				.map(entry -> new StepDescriptor(entry.name(), entry.tags(), entry.duration().toNanos() / 1_000_000d))
+				.toList();
+
+		return new StartupReportDescriptor(steps);
+	}
+
+	/**
+	 * Description of the {@link StartupReport}.
+	 *
+	 * @param steps The recorded steps, in the order they ended.
+	 * @author Lars Grefer
+	 */
+	public record StartupReportDescriptor(List<StepDescriptor> steps) {
+	}
+
+	/**
+	 * Description of a single {@link StartupReport.Entry}.
+	 *
+	 * @param name       The name of the step.
+	 * @param tags       Additional information about the step.
+	 * @param durationMs The duration of the step in milliseconds.
+	 * @author Lars Grefer
+	 */
+	public record StepDescriptor(String name, Map<String, String> tags, double durationMs) {
+	}
+}
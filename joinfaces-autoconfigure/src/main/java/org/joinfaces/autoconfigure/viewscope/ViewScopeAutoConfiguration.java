@@ -19,14 +19,29 @@ package org.joinfaces.autoconfigure.viewscope;
 import jakarta.faces.component.UIViewRoot;
 import jakarta.faces.context.FacesContext;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.joinfaces.viewscope.InMemoryViewScopeStorage;
+import org.joinfaces.viewscope.MicrometerViewScopeObserver;
 import org.joinfaces.viewscope.ViewScope;
+import org.joinfaces.viewscope.ViewScopeObserver;
+import org.joinfaces.viewscope.ViewScopeStorage;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.beans.factory.config.CustomScopeConfigurer;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 
 /**
  * An {@link org.springframework.boot.autoconfigure.EnableAutoConfiguration AutoConfiguration}
@@ -34,17 +49,83 @@ import org.springframework.context.annotation.Bean;
  *
  * @author Lars Grefer
  */
-@AutoConfiguration
+@AutoConfiguration(afterName = "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration")
 @ConditionalOnWebApplication
 @ConditionalOnClass({FacesContext.class, UIViewRoot.class, ViewScope.class})
+@EnableConfigurationProperties(ViewScopeProperties.class)
 public class ViewScopeAutoConfiguration {
 
+	/**
+	 * Registers the {@link ViewScope}.
+	 * <p>
+	 * The {@link ViewScopeProperties} are bound directly, because this {@link CustomScopeConfigurer} is created
+	 * before the {@link ConfigurationProperties} beans can be.
+	 *
+	 * @param environment The environment to bind the {@link ViewScopeProperties} from.
+	 * @return The {@link CustomScopeConfigurer} for the {@link ViewScope}.
+	 */
 	@Bean
 	@ConditionalOnProperty(value = "joinfaces.view-scope.enabled", havingValue = "true", matchIfMissing = true)
-	public static CustomScopeConfigurer viewScopeConfigurer() {
+	public static CustomScopeConfigurer viewScopeConfigurer(Environment environment) {
+		ViewScopeProperties viewScopeProperties = Binder.get(environment)
+				.bindOrCreate("joinfaces.view-scope", ViewScopeProperties.class);
+
 		CustomScopeConfigurer customScopeConfigurer = new CustomScopeConfigurer();
-		customScopeConfigurer.addScope(ViewScope.SCOPE_VIEW, new ViewScope());
+		customScopeConfigurer.addScope(ViewScope.SCOPE_VIEW, new ViewScope(viewScopeProperties.getMaxActiveViews()));
 		return customScopeConfigurer;
 	}
 
+	/**
+	 * Applies the {@link ViewScopeStorage} and {@link ViewScopeObserver} beans (if any) to the {@link ViewScope}.
+	 *
+	 * @param viewScopeStorage  The {@link ViewScopeStorage} bean.
+	 * @param viewScopeObserver The {@link ViewScopeObserver} bean.
+	 * @param beanFactory       The bean factory in which the {@link ViewScope} is registered.
+	 * @return The initializer.
+	 */
+	@Bean
+	@ConditionalOnProperty(value = "joinfaces.view-scope.enabled", havingValue = "true", matchIfMissing = true)
+	public SmartInitializingSingleton viewScopeInitializer(ObjectProvider<ViewScopeStorage> viewScopeStorage, ObjectProvider<ViewScopeObserver> viewScopeObserver, ConfigurableListableBeanFactory beanFactory) {
+		return () -> {
+			if (beanFactory.getRegisteredScope(ViewScope.SCOPE_VIEW) instanceof ViewScope viewScope) {
+				viewScopeStorage.ifAvailable(viewScope::setStorage);
+				viewScopeObserver.ifAvailable(viewScope::setObserver);
+			}
+		};
+	}
+
+	/**
+	 * Keeps view scoped beans in memory, outside of the view map and the session.
+	 *
+	 * @author Lars Grefer
+	 */
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnProperty(value = "joinfaces.view-scope.storage.type", havingValue = "in-memory")
+	public static class InMemoryViewScopeStorageConfiguration {
+
+		@Bean
+		@ConditionalOnMissingBean(ViewScopeStorage.class)
+		public InMemoryViewScopeStorage inMemoryViewScopeStorage(ViewScopeProperties viewScopeProperties) {
+			return new InMemoryViewScopeStorage(viewScopeProperties.getStorage().getMaximumSize(), viewScopeProperties.getMaxActiveViews());
+		}
+	}
+
+	/**
+	 * Records the lifecycle of view scoped beans as Micrometer meters.
+	 *
+	 * @author Lars Grefer
+	 */
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass(MeterRegistry.class)
+	@ConditionalOnBean(MeterRegistry.class)
+	@ConditionalOnProperty(value = "joinfaces.view-scope.metrics.enabled", havingValue = "true", matchIfMissing = true)
+	public static class ViewScopeMetricsConfiguration {
+
+		@Bean
+		@ConditionalOnMissingBean(ViewScopeObserver.class)
+		public MicrometerViewScopeObserver micrometerViewScopeObserver(MeterRegistry meterRegistry) {
+			return new MicrometerViewScopeObserver(meterRegistry);
+		}
+	}
+
 }
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2016-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.joinfaces.autoconfigure.viewscope;
+
+import lombok.Data;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * {@link ConfigurationProperties} for the {@link org.joinfaces.viewscope.ViewScope ViewScope}.
+ *
+ * @author Lars Grefer
+ * @see ViewScopeAutoConfiguration
+ */
+@Data
+@ConfigurationProperties("joinfaces.view-scope")
+public class ViewScopeProperties {
+
+	/**
+	 * Maximum number of views per session whose view scoped beans are kept alive.
+	 * When exceeded, the beans of the least recently used views are destroyed. 0 means no limit.
+	 */
+	private int maxActiveViews = 0;
+
+	private final Storage storage = new Storage();
+
+	private final Metrics metrics = new Metrics();
+
+	/**
+	 * Where view scoped beans are stored.
+	 *
+	 * @author Lars Grefer
+	 */
+	public enum StorageType {
+		/**
+		 * Stores view scoped beans in the JSF view map.
+		 */
+		VIEW_MAP,
+		/**
+		 * Keeps view scoped beans in memory, outside of the view state and the session.
+		 */
+		IN_MEMORY
+	}
+
+	/**
+	 * Storage of view scoped beans.
+	 *
+	 * @author Lars Grefer
+	 */
+	@Data
+	public static class Storage {
+
+		/**
+		 * Where view scoped beans are stored.
+		 */
+		private StorageType type = StorageType.VIEW_MAP;
+
+		/**
+		 * Maximum number of views kept by the 'in-memory' view scope storage.
+		 * When exceeded, the beans of the least recently used views are destroyed.
+		 */
+		private int maximumSize = 10000;
+	}
+
+	/**
+	 * Micrometer metrics of view scoped beans.
+	 *
+	 * @author Lars Grefer
+	 */
+	@Data
+	public static class Metrics {
+
+		/**
+		 * Enables Micrometer metrics for view scoped beans, if a MeterRegistry is present.
+		 */
+		private boolean enabled = true;
+	}
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2016-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.joinfaces.autoconfigure.weld;
+
+import java.util.Map;
+import java.util.Set;
+
+import io.github.classgraph.ClassGraph;
+import io.github.classgraph.ScanResult;
+import lombok.extern.slf4j.Slf4j;
+import org.joinfaces.weld.ClassGraphDiscoveryStrategy;
+import org.joinfaces.weld.WeldBeanClassIndex;
+
+import org.springframework.aot.generate.GenerationContext;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationCode;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.util.ClassUtils;
+
+/**
+ * AOT processor which prepares the {@link WeldBeanClassIndex} used by {@link ClassGraphDiscoveryStrategy}.
+ *
+ * @author Lars Grefer
+ */
+@Slf4j
+public class WeldBeanClassIndexAotProcessor implements BeanFactoryInitializationAotProcessor {
+
+	@Override
+	public BeanFactoryInitializationAotContribution processAheadOfTime(ConfigurableListableBeanFactory beanFactory) {
+		if (!ClassUtils.isPresent("org.jboss.weld.environment.servlet.EnhancedListener", beanFactory.getBeanClassLoader())) {
+			return null;
+		}
+
+		return new WeldBeanClassIndexContribution();
+	}
+
+	static class WeldBeanClassIndexContribution implements BeanFactoryInitializationAotContribution {
+
+		@Override
+		public void applyTo(GenerationContext generationContext, BeanFactoryInitializationCode beanFactoryInitializationCode) {
+			Map<String, Set<String>> index;
+
+			try (ScanResult scanResult = new ClassGraph()
+					.enableClassInfo()
+					.enableAnnotationInfo()
+					.ignoreClassVisibility()
+					.scan()) {
+				index = WeldBeanClassIndex.buildIndex(scanResult);
+			}
+
+			log.debug("Prepared Weld bean class index with {} classes", index.size());
+
+			WeldBeanClassIndex.writePreparedIndex(generationContext, index);
+		}
+	}
+}
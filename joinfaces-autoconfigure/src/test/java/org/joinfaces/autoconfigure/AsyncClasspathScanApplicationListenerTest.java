@@ -0,0 +1,81 @@
+/*
+ * Copyright 2016-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.joinfaces.autoconfigure;
+
+import org.joinfaces.SharedScanResultProvider;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.context.event.ApplicationContextInitializedEvent;
+import org.springframework.boot.test.util.TestPropertyValues;
+import org.springframework.web.context.support.GenericWebApplicationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AsyncClasspathScanApplicationListenerTest {
+
+	private final AsyncClasspathScanApplicationListener listener = new AsyncClasspathScanApplicationListener();
+
+	@Test
+	void disabled() {
+		try (GenericWebApplicationContext context = new GenericWebApplicationContext()) {
+			this.listener.onApplicationEvent(event(context));
+
+			assertThat(context.getBeanFactory().containsBeanDefinition(AsyncClasspathScanApplicationListener.BEAN_NAME)).isFalse();
+		}
+	}
+
+	@Test
+	void enabled() {
+		try (GenericWebApplicationContext context = new GenericWebApplicationContext()) {
+			TestPropertyValues.of(
+					"joinfaces.classpath-scan.async=true",
+					"joinfaces.classpath-scan.accepted-packages=org.joinfaces.autoconfigure"
+			).applyTo(context);
+
+			this.listener.onApplicationEvent(event(context));
+
+			assertThat(context.getBeanFactory().containsBeanDefinition(AsyncClasspathScanApplicationListener.BEAN_NAME)).isTrue();
+
+			context.refresh();
+
+			assertThat(context.getBean(SharedScanResultProvider.class).getAcceptedPackages()).containsExactly("org.joinfaces.autoconfigure");
+		}
+	}
+
+	@Test
+	void aotProcessing() {
+		System.setProperty("spring.aot.processing", "true");
+		try (GenericWebApplicationContext context = new GenericWebApplicationContext()) {
+			TestPropertyValues.of("joinfaces.classpath-scan.async=true").applyTo(context);
+
+			this.listener.onApplicationEvent(event(context));
+
+			assertThat(context.getBeanFactory().containsBeanDefinition(AsyncClasspathScanApplicationListener.BEAN_NAME)).isFalse();
+		}
+		finally {
+			System.clearProperty("spring.aot.processing");
+		}
+	}
+
+	private static ApplicationContextInitializedEvent event(GenericWebApplicationContext context) {
+		SpringApplication springApplication = new SpringApplication();
+		springApplication.setWebApplicationType(WebApplicationType.SERVLET);
+		return new ApplicationContextInitializedEvent(springApplication, new String[0], context);
+	}
+}
@@ -16,11 +16,20 @@
 
 package org.joinfaces.autoconfigure;
 
+import java.nio.file.Path;
+import java.util.Set;
+
+import jakarta.servlet.ServletContainerInitializer;
+import jakarta.servlet.ServletContext;
+
+import org.joinfaces.SharedScanResultProvider;
+import org.joinfaces.servlet.ServletContainerInitializerRegistrationBean;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.web.SpringServletContainerInitializer;
 import org.springframework.web.filter.RequestContextFilter;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -41,4 +50,67 @@ public class JoinfacesAutoConfigurationTest {
 			assertThat(context).hasSingleBean(RequestContextFilter.class);
 		});
 	}
+
+	@Test
+	public void sharedScanResultProvider() {
+		this.webApplicationContextRunner.run(context -> {
+			assertThat(context).hasSingleBean(SharedScanResultProvider.class);
+		});
+	}
+
+	@Test
+	public void sharedScanResultProvider_registrationBean() {
+		this.webApplicationContextRunner
+				.withBean(ServletContainerInitializerRegistrationBean.class, () -> new ServletContainerInitializerRegistrationBean<>(SpringServletContainerInitializer.class))
+				.run(context -> {
+					ServletContainerInitializerRegistrationBean<?> registrationBean = context.getBean(ServletContainerInitializerRegistrationBean.class);
+					assertThat(registrationBean.getScanResultProvider()).isSameAs(context.getBean(SharedScanResultProvider.class));
+				});
+	}
+
+	@Test
+	public void classpathScanProperties() {
+		this.webApplicationContextRunner
+				.withBean("testInitializer", ServletContainerInitializerRegistrationBean.class, () -> new ServletContainerInitializerRegistrationBean<>(TestInitializer.class))
+				.withBean("otherInitializer", ServletContainerInitializerRegistrationBean.class, () -> new ServletContainerInitializerRegistrationBean<>(OtherInitializer.class))
+				.withPropertyValues(
+						"joinfaces.classpath-scan.accepted-packages=org.joinfaces",
+						"joinfaces.classpath-scan.rejected-jars=foo-*.jar",
+						"joinfaces.classpath-scan.scan-method-and-field-annotations=false",
+						"joinfaces.classpath-scan.parallel-loading=true",
+						"joinfaces.classpath-scan.cache-directory=build/joinfaces-cache",
+						"joinfaces.classpath-scan.initializers[" + TestInitializer.class.getName() + "].accepted-packages=com.example"
+				)
+				.run(context -> {
+					SharedScanResultProvider scanResultProvider = context.getBean(SharedScanResultProvider.class);
+					assertThat(scanResultProvider.getAcceptedPackages()).containsExactly("org.joinfaces");
+					assertThat(scanResultProvider.getRejectedJars()).containsExactly("foo-*.jar");
+					assertThat(scanResultProvider.isScanMethodAndFieldAnnotations()).isFalse();
+
+					ServletContainerInitializerRegistrationBean<?> testInitializer = context.getBean("testInitializer", ServletContainerInitializerRegistrationBean.class);
+					assertThat(testInitializer.getAcceptedPackages()).containsExactly("com.example");
+					assertThat(testInitializer.getRejectedJars()).containsExactly("foo-*.jar");
+					assertThat(testInitializer.isUseSharedScanResult()).isFalse();
+
+					ServletContainerInitializerRegistrationBean<?> otherInitializer = context.getBean("otherInitializer", ServletContainerInitializerRegistrationBean.class);
+					assertThat(otherInitializer.getAcceptedPackages()).containsExactly("org.joinfaces");
+					assertThat(otherInitializer.isScanMethodAndFieldAnnotations()).isFalse();
+					assertThat(otherInitializer.isParallelLoading()).isTrue();
+					assertThat(otherInitializer.getScanResultCacheDirectory()).isEqualTo(Path.of("build/joinfaces-cache"));
+					assertThat(otherInitializer.isUseSharedScanResult()).isTrue();
+					assertThat(otherInitializer.getScanResultProvider()).isSameAs(scanResultProvider);
+				});
+	}
+
+	public static class TestInitializer implements ServletContainerInitializer {
+		@Override
+		public void onStartup(Set<Class<?>> c, ServletContext ctx) {
+		}
+	}
+
+	public static class OtherInitializer implements ServletContainerInitializer {
+		@Override
+		public void onStartup(Set<Class<?>> c, ServletContext ctx) {
+		}
+	}
 }
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2016-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.joinfaces.autoconfigure.aot;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import jakarta.servlet.ServletContainerInitializer;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.annotation.HandlesTypes;
+
+import org.joinfaces.ClasspathScanUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class PreparedScanResultGeneratorTest {
+
+	@TempDir
+	Path outputDirectory;
+
+	@Test
+	void generate() throws IOException {
+		ClassLoader classLoader = getClass().getClassLoader();
+
+		PreparedScanResultGenerator.generate(this.outputDirectory, List.of(TestInitializer.class), classLoader);
+		// Running it a second time must replace the previous results.
+		PreparedScanResultGenerator.generate(this.outputDirectory, List.of(TestInitializer.class), classLoader);
+
+		String resourceName = "META-INF/joinfaces/" + TestInitializer.class.getName() + ".classes";
+		assertThat(this.outputDirectory.resolve(resourceName)).exists();
+
+		try (URLClassLoader generatedClassLoader = new URLClassLoader(new URL[]{this.outputDirectory.toUri().toURL()}, classLoader)) {
+			Optional<Set<Class<?>>> classes = ClasspathScanUtil.readClassSet(resourceName, generatedClassLoader);
+
+			assertThat(classes).isPresent();
+			assertThat(classes.get()).contains(TestHandledTypeImpl.class);
+		}
+	}
+
+	@Test
+	void generate_classpathScanProperties() throws IOException {
+		MockEnvironment environment = new MockEnvironment()
+				.withProperty("joinfaces.classpath-scan.accepted-packages", "com.example");
+
+		PreparedScanResultGenerator.generate(this.outputDirectory, List.of(TestInitializer.class), getClass().getClassLoader(), environment);
+
+		assertThat(this.outputDirectory.resolve("META-INF/joinfaces/" + TestInitializer.class.getName() + ".classes")).doesNotExist();
+	}
+
+	@Test
+	void main_withoutArguments() {
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> PreparedScanResultGenerator.main(new String[0]));
+	}
+
+	public interface TestHandledType {
+	}
+
+	public static class TestHandledTypeImpl implements TestHandledType {
+	}
+
+	@HandlesTypes(TestHandledType.class)
+	public static class TestInitializer implements ServletContainerInitializer {
+		@Override
+		public void onStartup(Set<Class<?>> c, ServletContext ctx) {
+		}
+	}
+}
@@ -16,11 +16,18 @@
 
 package org.joinfaces.autoconfigure.session;
 
+import java.time.LocalDate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.joinfaces.session.MicrometerSpringSessionFixObserver;
+import org.joinfaces.session.SerializationChangeDetector;
+import org.joinfaces.session.SpringSessionFixFilter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.session.web.http.SessionRepositoryFilter;
@@ -54,6 +61,57 @@ class SpringSessionFixAutoConfigurationTest {
 			});
 	}
 
+	@Test
+	void withoutChangeDetection() {
+		this.contextRunner.withConfiguration(AutoConfigurations.of(SpringSessionFixAutoConfiguration.class))
+			.withUserConfiguration(TestConfig.class)
+			.run(context -> {
+				FilterRegistrationBean<?> registrationBean = context.getBean("springSessionFixFilterRegistrationBean", FilterRegistrationBean.class);
+				SpringSessionFixFilter filter = (SpringSessionFixFilter) registrationBean.getFilter();
+				assertThat(filter.getChangeDetector()).isNull();
+			});
+	}
+
+	@Test
+	void withChangeDetection() {
+		this.contextRunner.withConfiguration(AutoConfigurations.of(SpringSessionFixAutoConfiguration.class))
+			.withUserConfiguration(TestConfig.class)
+			.withPropertyValues("joinfaces.session-fix.change-detection=serialization")
+			.run(context -> {
+				FilterRegistrationBean<?> registrationBean = context.getBean("springSessionFixFilterRegistrationBean", FilterRegistrationBean.class);
+				SpringSessionFixFilter filter = (SpringSessionFixFilter) registrationBean.getFilter();
+				assertThat(filter.getChangeDetector()).isInstanceOf(SerializationChangeDetector.class);
+			});
+	}
+
+	@Test
+	void properties() {
+		this.contextRunner.withConfiguration(AutoConfigurations.of(SpringSessionFixAutoConfiguration.class))
+			.withUserConfiguration(TestConfig.class)
+			.withPropertyValues(
+				"joinfaces.session-fix.immutable-types=java.lang.String,java.time.LocalDate",
+				"joinfaces.session-fix.excluded-attribute-names=foo.*"
+			)
+			.run(context -> {
+				SpringSessionFixProperties properties = context.getBean(SpringSessionFixProperties.class);
+				assertThat(properties.getImmutableTypes()).containsExactly(String.class, LocalDate.class);
+				assertThat(properties.getExcludedAttributeNames()).containsExactly("foo.*");
+				assertThat(properties.getIncludedAttributeNames()).contains("com.sun.faces.renderkit.ServerSideStateHelper.LogicalViewMap");
+			});
+	}
+
+	@Test
+	void withMeterRegistry() {
+		this.contextRunner.withConfiguration(AutoConfigurations.of(SpringSessionFixAutoConfiguration.class))
+			.withUserConfiguration(TestConfig.class)
+			.withBean(SimpleMeterRegistry.class)
+			.run(context -> {
+				FilterRegistrationBean<?> registrationBean = context.getBean("springSessionFixFilterRegistrationBean", FilterRegistrationBean.class);
+				SpringSessionFixFilter filter = (SpringSessionFixFilter) registrationBean.getFilter();
+				assertThat(filter.getObserver()).isInstanceOf(MicrometerSpringSessionFixObserver.class);
+			});
+	}
+
 	@Configuration
 	public static class TestConfig {
 
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2016-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.joinfaces.autoconfigure.startup;
+
+import org.joinfaces.StartupReport;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StartupReportEndpointAutoConfigurationTest {
+
+	private final WebApplicationContextRunner webApplicationContextRunner = new WebApplicationContextRunner()
+			.withConfiguration(AutoConfigurations.of(StartupReportEndpointAutoConfiguration.class));
+
+	@Test
+	void notExposed() {
+		this.webApplicationContextRunner.run(context -> assertThat(context).doesNotHaveBean(StartupReportEndpoint.class));
+	}
+
+	@Test
+	void endpoint() {
+		this.webApplicationContextRunner
+				.withPropertyValues("management.endpoints.web.exposure.include=joinfacesstartup")
+				.withInitializer(applicationContext -> StartupReport.start("test").tag("foo", "bar").end())
+				.run(context -> {
+					assertThat(context).hasSingleBean(StartupReportEndpoint.class);
+
+					StartupReport.start("late").end();
+
+					assertThat(context.getBean(StartupReportEndpoint.class).startupReport().steps())
+							.anySatisfy(step -> {
+								assertThat(step.name()).isEqualTo("test");
+								assertThat(step.tags()).containsEntry("foo", "bar");
+							})
+							.noneSatisfy(step -> assertThat(step.name()).isEqualTo("late"));
+
+					StartupReport.clear();
+				});
+	}
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2016-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.joinfaces.autoconfigure.viewscope;
+
+import org.joinfaces.viewscope.InMemoryViewScopeStorage;
+import org.joinfaces.viewscope.ViewScope;
+import org.joinfaces.viewscope.ViewScopeStorage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ViewScopeAutoConfigurationTest {
+
+	private WebApplicationContextRunner webApplicationContextRunner;
+
+	@BeforeEach
+	public void setUp() {
+		this.webApplicationContextRunner = new WebApplicationContextRunner()
+				.withConfiguration(AutoConfigurations.of(ViewScopeAutoConfiguration.class));
+	}
+
+	@Test
+	public void defaults() {
+		this.webApplicationContextRunner.run(context -> {
+			assertThat(context).doesNotHaveBean(ViewScopeStorage.class);
+
+			ViewScope viewScope = (ViewScope) context.getBeanFactory().getRegisteredScope(ViewScope.SCOPE_VIEW);
+			assertThat(viewScope.getMaxActiveViews()).isZero();
+		});
+	}
+
+	@Test
+	public void inMemoryStorage() {
+		this.webApplicationContextRunner
+				.withPropertyValues(
+						"joinfaces.view-scope.max-active-views=5",
+						"joinfaces.view-scope.storage.type=in-memory",
+						"joinfaces.view-scope.storage.maximum-size=100"
+				)
+				.run(context -> {
+					InMemoryViewScopeStorage storage = context.getBean(InMemoryViewScopeStorage.class);
+					assertThat(storage.getMaximumSize()).isEqualTo(100);
+					assertThat(storage.getMaximumSizePerSession()).isEqualTo(5);
+
+					ViewScope viewScope = (ViewScope) context.getBeanFactory().getRegisteredScope(ViewScope.SCOPE_VIEW);
+					assertThat(viewScope.getMaxActiveViews()).isEqualTo(5);
+				});
+	}
+}
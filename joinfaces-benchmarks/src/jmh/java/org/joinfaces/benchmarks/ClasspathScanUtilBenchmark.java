@@ -0,0 +1,105 @@
+/*
+ * Copyright 2016-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.joinfaces.benchmarks;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import io.github.classgraph.ClassGraph;
+import io.github.classgraph.ScanResult;
+import org.joinfaces.ClasspathScanUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import org.springframework.util.FileSystemUtils;
+
+/**
+ * Benchmarks for reading prepared scan results with {@link ClasspathScanUtil}.
+ * <p>
+ * The prepared scan results are generated into a temporary directory and list the classes of some Spring packages.
+ *
+ * @author Lars Grefer
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ClasspathScanUtilBenchmark {
+
+	private static final String CLASS_SET = "META-INF/joinfaces/benchmark.classes";
+	private static final String CLASS_MAP = "META-INF/joinfaces/benchmark-map.classes";
+
+	private Path directory;
+
+	private URLClassLoader classLoader;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		List<String> classNames;
+		try (ScanResult scanResult = new ClassGraph()
+				.acceptPackages("org.springframework.core", "org.springframework.util", "org.springframework.beans")
+				.scan()) {
+			classNames = scanResult.getAllClasses().getNames();
+		}
+
+		this.directory = Files.createTempDirectory("joinfaces-benchmark");
+		Path classSet = this.directory.resolve(CLASS_SET);
+		Files.createDirectories(classSet.getParent());
+		Files.write(classSet, classNames, StandardCharsets.UTF_8);
+
+		int half = classNames.size() / 2;
+		List<String> classMapLines = List.of(
+				Deprecated.class.getName() + "=" + String.join(",", classNames.subList(0, half)),
+				FunctionalInterface.class.getName() + "=" + String.join(",", classNames.subList(half, classNames.size()))
+		);
+		Files.write(this.directory.resolve(CLASS_MAP), classMapLines, StandardCharsets.UTF_8);
+
+		this.classLoader = new URLClassLoader(new URL[]{this.directory.toUri().toURL()}, getClass().getClassLoader());
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		this.classLoader.close();
+		FileSystemUtils.deleteRecursively(this.directory);
+	}
+
+	@Benchmark
+	public Optional<Set<Class<?>>> readClassSet() {
+		return ClasspathScanUtil.readClassSet(CLASS_SET, this.classLoader);
+	}
+
+	@Benchmark
+	public Optional<Map<Class<? extends Annotation>, Set<Class<?>>>> readClassMap() {
+		return ClasspathScanUtil.readClassMap(CLASS_MAP, this.classLoader);
+	}
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2016-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.joinfaces.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.joinfaces.security.taglib.FaceletsAuthorizeTag;
+import org.joinfaces.test.mock.JsfMock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.access.expression.DefaultWebSecurityExpressionHandler;
+import org.springframework.web.context.support.GenericWebApplicationContext;
+
+/**
+ * Benchmark for {@link FaceletsAuthorizeTag#authorize()} using an access expression.
+ *
+ * @author Lars Grefer
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FaceletsAuthorizeTagBenchmark {
+
+	private GenericWebApplicationContext applicationContext;
+
+	private JsfMock jsfMock;
+
+	private FaceletsAuthorizeTag tag;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		this.applicationContext = new GenericWebApplicationContext();
+		this.applicationContext.registerBean(DefaultWebSecurityExpressionHandler.class);
+		this.applicationContext.refresh();
+
+		this.jsfMock = new JsfMock();
+		this.jsfMock.init(this.applicationContext);
+
+		SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+				"user", "password", AuthorityUtils.createAuthorityList("ROLE_A", "ROLE_C")
+		));
+
+		this.tag = new FaceletsAuthorizeTag();
+		this.tag.setAccess("hasRole('A') and hasAnyRole('B', 'C')");
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		SecurityContextHolder.clearContext();
+		this.jsfMock.release();
+		this.applicationContext.close();
+	}
+
+	@Benchmark
+	public boolean authorize() throws IOException {
+		return this.tag.authorize();
+	}
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2016-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.joinfaces.benchmarks;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.joinfaces.i18n.MessageSourceBridge;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.context.support.StaticMessageSource;
+
+/**
+ * Benchmark for {@link MessageSourceBridge#get(Object)}.
+ *
+ * @author Lars Grefer
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MessageSourceBridgeBenchmark {
+
+	private MessageSourceBridge messageSourceBridge;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		StaticMessageSource messageSource = new StaticMessageSource();
+		messageSource.addMessage("greeting", Locale.ENGLISH, "Hello");
+		messageSource.addMessage("greeting", Locale.GERMAN, "Hallo");
+		messageSource.setUseCodeAsDefaultMessage(true);
+
+		LocaleContextHolder.setLocale(Locale.ENGLISH);
+
+		this.messageSourceBridge = new MessageSourceBridge(messageSource);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		LocaleContextHolder.resetLocaleContext();
+	}
+
+	@Benchmark
+	public String getExistingMessage() {
+		return this.messageSourceBridge.get("greeting");
+	}
+
+	@Benchmark
+	public String getMissingMessage() {
+		return this.messageSourceBridge.get("missing");
+	}
+}
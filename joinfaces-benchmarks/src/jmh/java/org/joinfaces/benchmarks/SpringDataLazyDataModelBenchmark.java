@@ -0,0 +1,112 @@
+/*
+ * Copyright 2016-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.joinfaces.benchmarks;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.joinfaces.primefaces.SpringDataLazyDataModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.primefaces.model.SortMeta;
+import org.primefaces.model.SortOrder;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.PagingAndSortingRepository;
+
+/**
+ * Benchmarks for the conversion of PrimeFaces {@link SortMeta} into Spring Data {@link Sort} and {@link Pageable} objects.
+ *
+ * @author Lars Grefer
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SpringDataLazyDataModelBenchmark {
+
+	@Param({"1", "5"})
+	public int sortColumns;
+
+	private BenchmarkLazyDataModel lazyDataModel;
+
+	private Map<String, SortMeta> sortBy;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		this.lazyDataModel = new BenchmarkLazyDataModel();
+
+		this.sortBy = new LinkedHashMap<>();
+		for (int i = 0; i < this.sortColumns; i++) {
+			String field = "field" + i;
+			this.sortBy.put(field, SortMeta.builder()
+					.field(field)
+					.order(i % 2 == 0 ? SortOrder.ASCENDING : SortOrder.DESCENDING)
+					.priority(i)
+					.build());
+		}
+	}
+
+	@Benchmark
+	public Sort getSort() {
+		return this.lazyDataModel.getSort(this.sortBy);
+	}
+
+	@Benchmark
+	public Pageable getPageable() {
+		return this.lazyDataModel.getPageable(40, 20, this.sortBy);
+	}
+
+	/**
+	 * Repository type used for the {@link BenchmarkLazyDataModel}.
+	 *
+	 * @author Lars Grefer
+	 */
+	interface BenchmarkRepository extends CrudRepository<Object, Long>, PagingAndSortingRepository<Object, Long> {
+	}
+
+	/**
+	 * Exposes the protected conversion methods of the {@link SpringDataLazyDataModel}.
+	 *
+	 * @author Lars Grefer
+	 */
+	static class BenchmarkLazyDataModel extends SpringDataLazyDataModel<Object, Long, BenchmarkRepository> {
+
+		BenchmarkLazyDataModel() {
+			super(null);
+		}
+
+		@Override
+		public Sort getSort(Map<String, SortMeta> sortBy) {
+			return super.getSort(sortBy);
+		}
+
+		@Override
+		public Pageable getPageable(int first, int pageSize, Map<String, SortMeta> sortBy) {
+			return super.getPageable(first, pageSize, sortBy);
+		}
+	}
+}
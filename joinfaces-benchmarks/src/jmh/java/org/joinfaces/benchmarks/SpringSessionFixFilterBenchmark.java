@@ -0,0 +1,103 @@
+/*
+ * Copyright 2016-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.joinfaces.benchmarks;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
+
+import org.joinfaces.session.SpringSessionFixFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockHttpSession;
+
+/**
+ * Benchmark for a request passing the {@link SpringSessionFixFilter}.
+ * <p>
+ * The filter chain repeatedly looks up the session and reads some of its attributes, like JSF does.
+ *
+ * @author Lars Grefer
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SpringSessionFixFilterBenchmark {
+
+	@Param({"10", "100"})
+	public int sessionAttributes;
+
+	@Param({"5", "50"})
+	public int readAttributes;
+
+	private SpringSessionFixFilter filter;
+
+	private MockHttpServletRequest request;
+
+	private MockHttpServletResponse response;
+
+	private FilterChain filterChain;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		this.filter = new SpringSessionFixFilter();
+
+		MockHttpSession session = new MockHttpSession();
+		for (int i = 0; i < this.sessionAttributes; i++) {
+			if (i % 2 == 0) {
+				session.setAttribute("attribute" + i, i);
+			}
+			else {
+				List<String> value = new ArrayList<>();
+				value.add("value" + i);
+				session.setAttribute("attribute" + i, value);
+			}
+		}
+
+		this.request = new MockHttpServletRequest();
+		this.request.setSession(session);
+		this.response = new MockHttpServletResponse();
+
+		int reads = Math.min(this.readAttributes, this.sessionAttributes);
+		this.filterChain = (request, response) -> {
+			for (int i = 0; i < reads; i++) {
+				HttpSession httpSession = ((HttpServletRequest) request).getSession();
+				httpSession.getAttribute("attribute" + i);
+			}
+		};
+	}
+
+	@Benchmark
+	public void doFilter() throws ServletException, IOException {
+		this.filter.doFilter(this.request, this.response, this.filterChain);
+	}
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2016-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.joinfaces.benchmarks;
+
+import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.joinfaces.test.mock.JsfMock;
+import org.joinfaces.viewscope.InMemoryViewScopeStorage;
+import org.joinfaces.viewscope.ViewScope;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import static org.mockito.BDDMockito.given;
+
+/**
+ * Benchmarks for {@link ViewScope#get(String, org.springframework.beans.factory.ObjectFactory)}
+ * and {@link ViewScope#registerDestructionCallback(String, Runnable)}.
+ * <p>
+ * The JSF environment is provided by {@link JsfMock}.
+ *
+ * @author Lars Grefer
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ViewScopeBenchmark {
+
+	private static final Runnable NOOP = () -> {
+	};
+
+	@Param({"view-map", "in-memory"})
+	public String storage;
+
+	@Param({"0", "25"})
+	public int maxActiveViews;
+
+	private JsfMock jsfMock;
+
+	private ViewScope viewScope;
+
+	private int counter;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		this.jsfMock = new JsfMock();
+		this.jsfMock.init(null);
+
+		given(this.jsfMock.getMockFacesContext().getAttributes()).willReturn(new HashMap<>());
+		given(this.jsfMock.getMockExternalContext().getSessionMap()).willReturn(new ConcurrentHashMap<>());
+		given(this.jsfMock.getMockExternalContext().getSessionId(false)).willReturn("benchmark-session");
+
+		this.viewScope = new ViewScope(this.maxActiveViews);
+		if ("in-memory".equals(this.storage)) {
+			this.viewScope.setStorage(new InMemoryViewScopeStorage(10_000, this.maxActiveViews));
+		}
+
+		this.viewScope.get("existingBean", Object::new);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		this.jsfMock.release();
+	}
+
+	@Benchmark
+	public Object getExistingBean() {
+		return this.viewScope.get("existingBean", Object::new);
+	}
+
+	@Benchmark
+	public Object createAndDestroyBean() {
+		String name = "bean" + (this.counter++ & 1023);
+
+		Object bean = this.viewScope.get(name, Object::new);
+		this.viewScope.registerDestructionCallback(name, NOOP);
+		this.viewScope.remove(name);
+
+		return bean;
+	}
+}
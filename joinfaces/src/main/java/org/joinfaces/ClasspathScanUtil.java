@@ -16,23 +16,37 @@
 
 package org.joinfaces;
 
+import java.io.BufferedInputStream;
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.lang.annotation.Annotation;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -41,10 +55,16 @@ import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.aot.generate.GenerationContext;
 import org.springframework.aot.hint.TypeReference;
+import org.springframework.lang.Nullable;
 import org.springframework.util.StringUtils;
 
 /**
  * Utility class for handling classpath scan results.
+ * <p>
+ * Prepared scan results are written in a compact binary format:
+ * A header ({@link #MAGIC}, {@link #VERSION} and the kind of the scan result) is followed by a table
+ * of all class names. Class maps then reference the class names by their index in this table.
+ * The older line based text format is still supported when reading prepared scan results.
  *
  * @author Lars Grefer
  */
@@ -52,10 +72,44 @@ import org.springframework.util.StringUtils;
 @UtilityClass
 public class ClasspathScanUtil {
 
+	/**
+	 * Magic number which identifies prepared scan results in the binary format.
+	 */
+	static final int MAGIC = 0x4A46_5343;
+
+	static final byte VERSION = 1;
+
+	static final byte KIND_CLASS_SET = 1;
+	static final byte KIND_CLASS_MAP = 2;
+
+	/**
+	 * Prepared scan results with less classes are always loaded sequentially.
+	 */
+	static final int PARALLEL_LOADING_THRESHOLD = 128;
+
+	/**
+	 * Sum of the time spent loading classes in parallel during the current {@link #readClasses} call.
+	 * Only set while the current call loads the classes in parallel.
+	 */
+	private static final ThreadLocal<LongAdder> PARALLEL_LOADING_TIME = new ThreadLocal<>();
+
 	public static Optional<Set<Class<?>>> readClassSet(String resourceName, ClassLoader classLoader) {
+		return readClassSet(resourceName, classLoader, false);
+	}
+
+	/**
+	 * Reads a prepared scan result containing a set of classes.
+	 *
+	 * @param resourceName    The name of the prepared scan result resource.
+	 * @param classLoader     The {@link ClassLoader} used to load the classes.
+	 * @param parallelLoading Whether large prepared scan results should be loaded using multiple threads.
+	 * @return The prepared scan result, if present.
+	 */
+	public static Optional<Set<Class<?>>> readClassSet(String resourceName, ClassLoader classLoader, boolean parallelLoading) {
 		return readClasses(
-			resourceName, classLoader,
-			ClasspathScanUtil::readClassSet
+			resourceName, classLoader, parallelLoading,
+			ClasspathScanUtil::readClassSet,
+			ClasspathScanUtil::readBinaryClassSet
 		);
 	}
 
@@ -68,12 +122,8 @@ public class ClasspathScanUtil {
 			.sorted(String::compareTo)
 			.toList();
 
-		generationContext.getGeneratedFiles().addResourceFile(resourceFilePath, appendable -> {
-			for (String className : sortedClassNames) {
-				appendable.append(className);
-				appendable.append("\n");
-			}
-		});
+		byte[] content = toByteArray(out -> writeClassSet(out, sortedClassNames));
+		generationContext.getGeneratedFiles().addResourceFile(resourceFilePath, () -> new ByteArrayInputStream(content));
 
 		for (String className : sortedClassNames) {
 			generationContext.getRuntimeHints().reflection().registerType(TypeReference.of(className));
@@ -81,9 +131,40 @@ public class ClasspathScanUtil {
 	}
 
 	public static Optional<Map<Class<? extends Annotation>, Set<Class<?>>>> readClassMap(String resourceName, ClassLoader classLoader) {
+		return readClassMap(resourceName, classLoader, false);
+	}
+
+	/**
+	 * Reads a prepared scan result containing a map of annotations to the classes annotated with them.
+	 *
+	 * @param resourceName    The name of the prepared scan result resource.
+	 * @param classLoader     The {@link ClassLoader} used to load the classes.
+	 * @param parallelLoading Whether large prepared scan results should be loaded using multiple threads.
+	 * @return The prepared scan result, if present.
+	 */
+	public static Optional<Map<Class<? extends Annotation>, Set<Class<?>>>> readClassMap(String resourceName, ClassLoader classLoader, boolean parallelLoading) {
+		return readClasses(
+			resourceName, classLoader, parallelLoading,
+			ClasspathScanUtil::readClassMap,
+			ClasspathScanUtil::readBinaryClassMap
+		);
+	}
+
+	/**
+	 * Reads a prepared scan result like {@link #readClassMap(String, ClassLoader)}, but does not load the listed classes
+	 * until they are accessed.
+	 * <p>
+	 * Only the annotation classes are loaded eagerly. Classes which can't be loaded are skipped silently.
+	 *
+	 * @param resourceName The name of the prepared scan result resource.
+	 * @param classLoader  The {@link ClassLoader} used to load the classes.
+	 * @return The prepared scan result, if present.
+	 */
+	public static Optional<Map<Class<? extends Annotation>, Set<Class<?>>>> readLazyClassMap(String resourceName, ClassLoader classLoader) {
 		return readClasses(
-			resourceName, classLoader,
-			ClasspathScanUtil::readClassMap
+			resourceName, classLoader, false,
+			(bufferedReader, cl) -> readClassMap(bufferedReader, cl, LazyClassSet::new),
+			(in, cl) -> readBinaryClassMap(in, cl, LazyClassSet::new)
 		);
 	}
 
@@ -98,24 +179,23 @@ public class ClasspathScanUtil {
 			.distinct()
 			.toList();
 
-		generationContext.getGeneratedFiles().addResourceFile(resourceFilePath, appendable -> {
+		Map<String, List<String>> classNameMap = new LinkedHashMap<>();
+		classMap.entrySet().stream()
+			.sorted(Map.Entry.comparingByKey(Comparator.comparing(Class::getName)))
+			.forEach(entry -> classNameMap.put(
+				entry.getKey().getName(),
+				entry.getValue().stream().map(Class::getName).sorted().toList()
+			));
 
-			for (Map.Entry<Class<? extends Annotation>, Set<Class<?>>> classSetEntry : classMap.entrySet()) {
-				appendable.append(classSetEntry.getKey().getName());
-				appendable.append("=");
-
-				appendable.append(classSetEntry.getValue().stream().map(Class::getName).sorted().collect(Collectors.joining(",")));
-				appendable.append("\n");
-			}
-
-		});
+		byte[] content = toByteArray(out -> writeClassMap(out, classNameMap));
+		generationContext.getGeneratedFiles().addResourceFile(resourceFilePath, () -> new ByteArrayInputStream(content));
 
 		for (String className : sortedClassNames) {
 			generationContext.getRuntimeHints().reflection().registerType(TypeReference.of(className));
 		}
 	}
 
-	private static <T> Optional<T> readClasses(String resourceName, ClassLoader classLoader, BiFunction<BufferedReader, ClassLoader, T> function) {
+	private static <T> Optional<T> readClasses(String resourceName, ClassLoader classLoader, boolean parallelLoading, BiFunction<BufferedReader, ClassLoader, T> textFunction, BinaryReader<T> binaryFunction) {
 		InputStream resourceAsStream = classLoader.getResourceAsStream(resourceName);
 
 		if (resourceAsStream == null) {
@@ -123,24 +203,219 @@ public class ClasspathScanUtil {
 			return Optional.empty();
 		}
 
+		LongAdder parallelLoadingTime = new LongAdder();
+
 		long start = System.nanoTime();
-		try (BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(resourceAsStream, StandardCharsets.UTF_8))) {
-			T result = function.apply(bufferedReader, classLoader);
-			double ms = (System.nanoTime() - start) / 1_000_000d;
-			log.info("Loading prepared scan result took {}ms", ms);
+		try (StartupReport.Step step = StartupReport.start("prepared-scan-result.load").tag("resource", resourceName);
+				InputStream inputStream = new BufferedInputStream(resourceAsStream)) {
+			T result = readClasses(inputStream, classLoader, parallelLoading ? parallelLoadingTime : null, textFunction, binaryFunction);
+			long duration = System.nanoTime() - start;
+			double ms = duration / 1_000_000d;
+			if (parallelLoadingTime.sum() > 0) {
+				//The summed up loading time of all threads estimates how long loading the classes sequentially would have taken.
+				double speedup = parallelLoadingTime.sum() / (double) duration;
+				log.info("Loading prepared scan result took {}ms (parallel class loading, estimated speedup {}x)", ms, String.format(Locale.ROOT, "%.1f", speedup));
+			}
+			else {
+				log.info("Loading prepared scan result took {}ms", ms);
+			}
 			return Optional.ofNullable(result);
 		}
-		catch (IOException e) {
+		catch (IOException | UncheckedIOException e) {
 			log.warn("Failed to read prepared scan-result {}", resourceName, e);
 			return Optional.empty();
 		}
 	}
 
+	/**
+	 * Reads a prepared scan result in either the binary or the text format.
+	 *
+	 * @param inputStream The prepared scan result. Has to support {@link InputStream#mark(int)}.
+	 * @param classLoader The {@link ClassLoader} used to load the classes.
+	 * @param textFunction The function used to read the text format.
+	 * @param binaryFunction The function used to read the binary format.
+	 * @param <T> The type of the scan result.
+	 * @return The scan result.
+	 * @throws IOException If the prepared scan result could not be read.
+	 */
+	static <T> T readClasses(InputStream inputStream, ClassLoader classLoader, BiFunction<BufferedReader, ClassLoader, T> textFunction, BinaryReader<T> binaryFunction) throws IOException {
+		return readClasses(inputStream, classLoader, null, textFunction, binaryFunction);
+	}
+
+	/**
+	 * Reads a prepared scan result in either the binary or the text format.
+	 *
+	 * @param inputStream The prepared scan result. Has to support {@link InputStream#mark(int)}.
+	 * @param classLoader The {@link ClassLoader} used to load the classes.
+	 * @param parallelLoadingTime If not {@code null}, large sets of classes are loaded in parallel
+	 *                            and the time spent loading them is added to it.
+	 * @param textFunction The function used to read the text format.
+	 * @param binaryFunction The function used to read the binary format.
+	 * @param <T> The type of the scan result.
+	 * @return The scan result.
+	 * @throws IOException If the prepared scan result could not be read.
+	 */
+	static <T> T readClasses(InputStream inputStream, ClassLoader classLoader, @Nullable LongAdder parallelLoadingTime, BiFunction<BufferedReader, ClassLoader, T> textFunction, BinaryReader<T> binaryFunction) throws IOException {
+		if (parallelLoadingTime == null) {
+			return readClassesInternal(inputStream, classLoader, textFunction, binaryFunction);
+		}
+
+		PARALLEL_LOADING_TIME.set(parallelLoadingTime);
+		try {
+			return readClassesInternal(inputStream, classLoader, textFunction, binaryFunction);
+		}
+		finally {
+			PARALLEL_LOADING_TIME.remove();
+		}
+	}
+
+	private static <T> T readClassesInternal(InputStream inputStream, ClassLoader classLoader, BiFunction<BufferedReader, ClassLoader, T> textFunction, BinaryReader<T> binaryFunction) throws IOException {
+		inputStream.mark(Integer.BYTES);
+		DataInputStream dataInputStream = new DataInputStream(inputStream);
+
+		if (readMagic(dataInputStream)) {
+			return binaryFunction.read(dataInputStream, classLoader);
+		}
+
+		inputStream.reset();
+		return textFunction.apply(new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8)), classLoader);
+	}
+
+	private static boolean readMagic(DataInputStream dataInputStream) throws IOException {
+		try {
+			return dataInputStream.readInt() == MAGIC;
+		}
+		catch (EOFException e) {
+			return false;
+		}
+	}
+
+	static void writeClassSet(OutputStream outputStream, Collection<String> classNames) throws IOException {
+		DataOutputStream out = new DataOutputStream(outputStream);
+		writeHeader(out, KIND_CLASS_SET);
+		writeStringTable(out, classNames);
+		out.flush();
+	}
+
+	static void writeClassMap(OutputStream outputStream, Map<String, ? extends Collection<String>> classNameMap) throws IOException {
+		Map<String, Integer> stringTable = new LinkedHashMap<>();
+		classNameMap.forEach((annotationName, classNames) -> {
+			stringTable.putIfAbsent(annotationName, stringTable.size());
+			classNames.forEach(className -> stringTable.putIfAbsent(className, stringTable.size()));
+		});
+
+		DataOutputStream out = new DataOutputStream(outputStream);
+		writeHeader(out, KIND_CLASS_MAP);
+		writeStringTable(out, stringTable.keySet());
+
+		out.writeInt(classNameMap.size());
+		for (Map.Entry<String, ? extends Collection<String>> entry : classNameMap.entrySet()) {
+			out.writeInt(stringTable.get(entry.getKey()));
+			out.writeInt(entry.getValue().size());
+			for (String className : entry.getValue()) {
+				out.writeInt(stringTable.get(className));
+			}
+		}
+		out.flush();
+	}
+
+	private static void writeHeader(DataOutputStream out, byte kind) throws IOException {
+		out.writeInt(MAGIC);
+		out.writeByte(VERSION);
+		out.writeByte(kind);
+	}
+
+	private static void writeStringTable(DataOutputStream out, Collection<String> strings) throws IOException {
+		out.writeInt(strings.size());
+		for (String string : strings) {
+			out.writeUTF(string);
+		}
+	}
+
+	private static void readHeader(DataInputStream in, byte expectedKind) throws IOException {
+		byte version = in.readByte();
+		if (version != VERSION) {
+			throw new IOException("Unsupported prepared scan result version " + version);
+		}
+		byte kind = in.readByte();
+		if (kind != expectedKind) {
+			throw new IOException("Unexpected prepared scan result kind " + kind);
+		}
+	}
+
+	private static String[] readStringTable(DataInputStream in) throws IOException {
+		String[] strings = new String[in.readInt()];
+		for (int i = 0; i < strings.length; i++) {
+			strings[i] = in.readUTF();
+		}
+		return strings;
+	}
+
+	static Set<Class<?>> readBinaryClassSet(DataInputStream in, ClassLoader classLoader) throws IOException {
+		readHeader(in, KIND_CLASS_SET);
+		return getClasses(Arrays.stream(readStringTable(in)), classLoader);
+	}
+
+	static Map<Class<? extends Annotation>, Set<Class<?>>> readBinaryClassMap(DataInputStream in, ClassLoader classLoader) throws IOException {
+		return readBinaryClassMap(in, classLoader, ClasspathScanUtil::getClasses);
+	}
+
+	static Map<Class<? extends Annotation>, Set<Class<?>>> readBinaryClassMap(DataInputStream in, ClassLoader classLoader, BiFunction<String[], ClassLoader, Set<Class<?>>> classSetFactory) throws IOException {
+		readHeader(in, KIND_CLASS_MAP);
+		String[] stringTable = readStringTable(in);
+
+		int annotationCount = in.readInt();
+		Map<Class<? extends Annotation>, Set<Class<?>>> classes = new HashMap<>(annotationCount * 4 / 3 + 1);
+
+		for (int i = 0; i < annotationCount; i++) {
+			String annotationName = stringTable[in.readInt()];
+
+			String[] classNames = new String[in.readInt()];
+			for (int j = 0; j < classNames.length; j++) {
+				classNames[j] = stringTable[in.readInt()];
+			}
+
+			Class<? extends Annotation> annotation = loadAnnotation(annotationName, classLoader);
+			if (annotation != null) {
+				classes.put(annotation, classNames.length > 0 ? classSetFactory.apply(classNames, classLoader) : Collections.emptySet());
+			}
+		}
+
+		return classes;
+	}
+
+	@Nullable
+	@SuppressWarnings("unchecked")
+	private static Class<? extends Annotation> loadAnnotation(String annotationName, ClassLoader classLoader) {
+		try {
+			return (Class<? extends Annotation>) classLoader.loadClass(annotationName);
+		}
+		catch (ClassNotFoundException | LinkageError e) {
+			log.warn("Failed to load annotation class {}", annotationName, e);
+			return null;
+		}
+	}
+
+	private static byte[] toByteArray(BinaryWriter writer) {
+		ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+		try {
+			writer.write(byteArrayOutputStream);
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return byteArrayOutputStream.toByteArray();
+	}
+
 	static Set<Class<?>> readClassSet(BufferedReader bufferedReader, ClassLoader classLoader) {
 		return getClasses(bufferedReader.lines(), classLoader);
 	}
 
 	static Map<Class<? extends Annotation>, Set<Class<?>>> readClassMap(BufferedReader bufferedReader, ClassLoader classLoader) {
+		return readClassMap(bufferedReader, classLoader, ClasspathScanUtil::getClasses);
+	}
+
+	static Map<Class<? extends Annotation>, Set<Class<?>>> readClassMap(BufferedReader bufferedReader, ClassLoader classLoader, BiFunction<String[], ClassLoader, Set<Class<?>>> classSetFactory) {
 		Map<Class<? extends Annotation>, Set<Class<?>>> classes = new HashMap<>();
 
 		bufferedReader.lines().forEach(line -> {
@@ -148,18 +423,14 @@ public class ClasspathScanUtil {
 			String annotationName = split[0];
 			String classNameList = split[1];
 
-			Class<? extends Annotation> annotation;
-			try {
-				annotation = (Class<? extends Annotation>) classLoader.loadClass(annotationName);
-			}
-			catch (ClassNotFoundException | LinkageError e) {
-				log.warn("Failed to load annotation class {}", annotationName, e);
+			Class<? extends Annotation> annotation = loadAnnotation(annotationName, classLoader);
+			if (annotation == null) {
 				return;
 			}
 			Set<Class<?>> classSet;
 
 			if (StringUtils.hasText(classNameList)) {
-				classSet = getClasses(Arrays.stream(classNameList.split(",")), classLoader);
+				classSet = classSetFactory.apply(classNameList.split(","), classLoader);
 			}
 			else {
 				classSet = Collections.emptySet();
@@ -171,32 +442,59 @@ public class ClasspathScanUtil {
 
 	}
 
+	static Set<Class<?>> getClasses(String[] classNames, ClassLoader classLoader) {
+		return getClasses(Arrays.stream(classNames), classLoader);
+	}
+
 	static Set<Class<?>> getClasses(Stream<String> classNames, ClassLoader classLoader) {
+		return getClasses(classNames, classLoader, PARALLEL_LOADING_TIME.get() != null);
+	}
+
+	/**
+	 * Loads the given classes.
+	 *
+	 * @param classNames  The names of the classes to load.
+	 * @param classLoader The {@link ClassLoader} used to load the classes.
+	 * @param parallel    Whether the classes should be loaded in parallel.
+	 * @return The loaded classes, in the order of the given class names.
+	 */
+	static Set<Class<?>> getClasses(Stream<String> classNames, ClassLoader classLoader, boolean parallel) {
 		AtomicInteger missingClasses = new AtomicInteger();
 		AtomicInteger missingDependentClasses = new AtomicInteger();
 
-		Set<Class<?>> collect = classNames
-			.map(className -> {
-				try {
-					return classLoader.loadClass(className);
-				}
-				catch (ClassNotFoundException e) {
-					missingClasses.incrementAndGet();
-					log.debug("Failed to load class {} although it's listed in the prepared scan result.", className);
-					log.trace("Stacktrace", e);
-				}
-				catch (NoClassDefFoundError e) {
-					missingDependentClasses.incrementAndGet();
-					log.debug("Failed to load class {} because it's dependency {} is missing.", className, e.getMessage());
-					log.trace("Stacktrace", e);
-				}
-				catch (LinkageError e) {
-					log.warn("Failed to load class {} from prepared scan result", className, e);
-				}
-				return null;
-			})
+		Function<String, Class<?>> loader = className -> {
+			try {
+				return classLoader.loadClass(className);
+			}
+			catch (ClassNotFoundException e) {
+				missingClasses.incrementAndGet();
+				log.debug("Failed to load class {} although it's listed in the prepared scan result.", className);
+				log.trace("Stacktrace", e);
+			}
+			catch (NoClassDefFoundError e) {
+				missingDependentClasses.incrementAndGet();
+				log.debug("Failed to load class {} because it's dependency {} is missing.", className, e.getMessage());
+				log.trace("Stacktrace", e);
+			}
+			catch (LinkageError e) {
+				log.warn("Failed to load class {} from prepared scan result", className, e);
+			}
+			return null;
+		};
+
+		List<String> classNameList = classNames.toList();
+
+		Stream<Class<?>> classes;
+		if (parallel && classNameList.size() >= PARALLEL_LOADING_THRESHOLD) {
+			classes = Arrays.stream(loadParallel(classNameList, loader));
+		}
+		else {
+			classes = classNameList.stream().map(loader);
+		}
+
+		Set<Class<?>> collect = classes
 			.filter(Objects::nonNull)
-			.collect(Collectors.toSet());
+			.collect(Collectors.toCollection(LinkedHashSet::new));
 
 		if (missingClasses.get() > 0) {
 			log.warn("{} classes listed in the prepared scan result could not be found. Set the log-level to debug for more information.", missingClasses.get());
@@ -206,4 +504,40 @@ public class ClasspathScanUtil {
 		}
 		return collect;
 	}
+
+	private static Class<?>[] loadParallel(List<String> classNames, Function<String, Class<?>> loader) {
+		LongAdder loadingTime = PARALLEL_LOADING_TIME.get();
+
+		Function<String, Class<?>> timedLoader = loadingTime == null ? loader : className -> {
+			long start = System.nanoTime();
+			try {
+				return loader.apply(className);
+			}
+			finally {
+				loadingTime.add(System.nanoTime() - start);
+			}
+		};
+
+		//The parallel stream runs in the common pool, toArray keeps the encounter order.
+		return classNames.parallelStream().map(timedLoader).toArray(Class<?>[]::new);
+	}
+
+	/**
+	 * Reads a prepared scan result in the binary format, after the {@link #MAGIC} number has been read.
+	 *
+	 * @param <T> The type of the scan result.
+	 * @author Lars Grefer
+	 */
+	@FunctionalInterface
+	interface BinaryReader<T> {
+		T read(DataInputStream in, ClassLoader classLoader) throws IOException;
+	}
+
+	/**
+	 * Writes a prepared scan result in the binary format.
+	 */
+	@FunctionalInterface
+	private interface BinaryWriter {
+		void write(OutputStream out) throws IOException;
+	}
 }
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2016-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.joinfaces;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Unmodifiable {@link java.util.Set} of classes which is backed by class names.
+ * <p>
+ * The classes are only loaded when they are accessed for the first time and cached afterwards.
+ * Classes which can't be loaded are silently skipped, like in {@link ClasspathScanUtil#getClasses}.
+ * <p>
+ * Concurrent access is safe, since loading the same class twice yields the same {@link Class} instance.
+ *
+ * @author Lars Grefer
+ */
+@Slf4j
+final class LazyClassSet extends AbstractSet<Class<?>> {
+
+	/**
+	 * Marker for classes which could not be loaded.
+	 */
+	private static final Class<?> NOT_LOADABLE = Void.TYPE;
+
+	private final String[] classNames;
+
+	private final ClassLoader classLoader;
+
+	private final Class<?>[] classes;
+
+	@Nullable
+	private volatile Map<String, Integer> indexes;
+
+	private volatile int size = -1;
+
+	LazyClassSet(String[] classNames, ClassLoader classLoader) {
+		this.classNames = Arrays.stream(classNames).distinct().toArray(String[]::new);
+		this.classLoader = classLoader;
+		this.classes = new Class<?>[this.classNames.length];
+	}
+
+	@Override
+	public Iterator<Class<?>> iterator() {
+		return new LazyIterator();
+	}
+
+	@Override
+	public int size() {
+		int size = this.size;
+		if (size < 0) {
+			size = 0;
+			for (int i = 0; i < this.classNames.length; i++) {
+				if (getClass(i) != null) {
+					size++;
+				}
+			}
+			this.size = size;
+		}
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return !iterator().hasNext();
+	}
+
+	@Override
+	public boolean contains(Object o) {
+		if (!(o instanceof Class<?> clazz)) {
+			return false;
+		}
+
+		Integer index = getIndexes().get(clazz.getName());
+
+		return index != null && getClass(index) == clazz;
+	}
+
+	private Map<String, Integer> getIndexes() {
+		Map<String, Integer> indexes = this.indexes;
+		if (indexes == null) {
+			indexes = new HashMap<>(this.classNames.length * 4 / 3 + 1);
+			for (int i = 0; i < this.classNames.length; i++) {
+				indexes.putIfAbsent(this.classNames[i], i);
+			}
+			this.indexes = indexes;
+		}
+		return indexes;
+	}
+
+	@Nullable
+	private Class<?> getClass(int index) {
+		Class<?> clazz = this.classes[index];
+
+		if (clazz == null) {
+			clazz = loadClass(this.classNames[index]);
+			this.classes[index] = clazz;
+		}
+
+		return clazz != NOT_LOADABLE ? clazz : null;
+	}
+
+	private Class<?> loadClass(String className) {
+		try {
+			return this.classLoader.loadClass(className);
+		}
+		catch (ClassNotFoundException e) {
+			log.debug("Failed to load class {} although it's listed in the prepared scan result.", className);
+			log.trace("Stacktrace", e);
+		}
+		catch (NoClassDefFoundError e) {
+			log.debug("Failed to load class {} because it's dependency {} is missing.", className, e.getMessage());
+			log.trace("Stacktrace", e);
+		}
+		catch (LinkageError e) {
+			log.warn("Failed to load class {} from prepared scan result", className, e);
+		}
+		return NOT_LOADABLE;
+	}
+
+	/**
+	 * {@link Iterator} which loads the classes while iterating.
+	 */
+	private final class LazyIterator implements Iterator<Class<?>> {
+
+		private int nextIndex;
+
+		@Nullable
+		private Class<?> next;
+
+		@Override
+		public boolean hasNext() {
+			while (this.next == null && this.nextIndex < LazyClassSet.this.classNames.length) {
+				this.next = getClass(this.nextIndex++);
+			}
+			return this.next != null;
+		}
+
+		@Override
+		public Class<?> next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			Class<?> result = this.next;
+			this.next = null;
+			return result;
+		}
+	}
+}
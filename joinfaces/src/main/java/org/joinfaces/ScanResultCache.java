@@ -0,0 +1,312 @@
+/*
+ * Copyright 2016-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.joinfaces;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.annotation.Annotation;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+
+import lombok.ToString;
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ResourceUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Persistent cache for classpath scan results, used when no prepared scan result is available.
+ * <p>
+ * The scan results are stored in the given cache directory in the same binary format as prepared scan results.
+ * All methods do nothing if no cache directory is given.
+ * The results are keyed by a fingerprint of the classpath
+ * (the paths, sizes and modification times of all classpath entries) and a hash of the scan configuration
+ * (e.g. the handled types, accepted packages and rejected jars), so a changed classpath or configuration never
+ * reuses stale results.
+ *
+ * @author Lars Grefer
+ * @see ClasspathScanUtil
+ */
+@Slf4j
+@UtilityClass
+public class ScanResultCache {
+
+	private static final Map<ClassLoader, String> FINGERPRINTS = new ConcurrentReferenceHashMap<>();
+
+	public static Optional<Set<Class<?>>> readClassSet(@Nullable Path cacheDirectory, String name, String configuration, ClassLoader classLoader, boolean parallelLoading) {
+		return read(cacheDirectory, name, configuration, classLoader, parallelLoading, ClasspathScanUtil::readClassSet, ClasspathScanUtil::readBinaryClassSet);
+	}
+
+	public static void writeClassSet(@Nullable Path cacheDirectory, String name, String configuration, Collection<Class<?>> classes, ClassLoader classLoader) {
+		List<String> classNames = classes.stream()
+				.map(Class::getName)
+				.sorted()
+				.toList();
+
+		write(cacheDirectory, name, configuration, classLoader, out -> ClasspathScanUtil.writeClassSet(out, classNames));
+	}
+
+	public static Optional<Map<Class<? extends Annotation>, Set<Class<?>>>> readClassMap(@Nullable Path cacheDirectory, String name, String configuration, ClassLoader classLoader, boolean parallelLoading) {
+		return read(cacheDirectory, name, configuration, classLoader, parallelLoading, ClasspathScanUtil::readClassMap, ClasspathScanUtil::readBinaryClassMap);
+	}
+
+	public static void writeClassMap(@Nullable Path cacheDirectory, String name, String configuration, Map<Class<? extends Annotation>, Set<Class<?>>> classMap, ClassLoader classLoader) {
+		Map<String, List<String>> classNameMap = new LinkedHashMap<>();
+		classMap.forEach((annotation, classes) -> classNameMap.put(
+				annotation.getName(),
+				classes.stream().map(Class::getName).sorted().toList()
+		));
+
+		write(cacheDirectory, name, configuration, classLoader, out -> ClasspathScanUtil.writeClassMap(out, classNameMap));
+	}
+
+	private static <T> Optional<T> read(@Nullable Path cacheDirectory, String name, String configuration, ClassLoader classLoader, boolean parallelLoading, BiFunction<BufferedReader, ClassLoader, T> textFunction, ClasspathScanUtil.BinaryReader<T> binaryFunction) {
+		Path cacheFile = getCacheFile(cacheDirectory, name, configuration, classLoader);
+
+		if (cacheFile == null || !Files.isRegularFile(cacheFile)) {
+			return Optional.empty();
+		}
+
+		long start = System.nanoTime();
+		try (StartupReport.Step step = StartupReport.start("scan-result-cache.load").tag("name", name);
+				InputStream inputStream = new BufferedInputStream(Files.newInputStream(cacheFile))) {
+			T result = ClasspathScanUtil.readClasses(inputStream, classLoader, parallelLoading ? new LongAdder() : null, textFunction, binaryFunction);
+			log.info("Loading cached scan result {} took {}ms", cacheFile, (System.nanoTime() - start) / 1_000_000d);
+			return Optional.ofNullable(result);
+		}
+		catch (IOException | UncheckedIOException e) {
+			log.warn("Failed to read cached scan result {}", cacheFile, e);
+			return Optional.empty();
+		}
+	}
+
+	private static void write(@Nullable Path cacheDirectory, String name, String configuration, ClassLoader classLoader, CacheWriter writer) {
+		Path cacheFile = getCacheFile(cacheDirectory, name, configuration, classLoader);
+
+		if (cacheFile == null) {
+			return;
+		}
+
+		try {
+			Files.createDirectories(cacheFile.getParent());
+
+			// Write to a temporary file first, so concurrently starting applications never see partial results.
+			Path tempFile = Files.createTempFile(cacheFile.getParent(), name, ".tmp");
+			try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(tempFile))) {
+				writer.write(outputStream);
+			}
+			Files.move(tempFile, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			log.debug("Wrote cached scan result {}", cacheFile);
+		}
+		catch (IOException | UncheckedIOException e) {
+			log.warn("Failed to write cached scan result {}", cacheFile, e);
+		}
+	}
+
+	@Nullable
+	static Path getCacheFile(@Nullable Path cacheDirectory, String name, String configuration, ClassLoader classLoader) {
+		if (cacheDirectory == null) {
+			return null;
+		}
+
+		return cacheDirectory
+				.resolve(FINGERPRINTS.computeIfAbsent(classLoader, ScanResultCache::fingerprint))
+				.resolve(name + "-" + hash(configuration).substring(0, 16) + ".classes");
+	}
+
+	private static String hash(String configuration) {
+		return HexFormat.of().formatHex(createDigest().digest(configuration.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	private static MessageDigest createDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Computes a fingerprint of the classpath visible to the given {@link ClassLoader}.
+	 *
+	 * @param classLoader The {@link ClassLoader}.
+	 * @return The hex encoded SHA-256 hash of the paths, sizes and modification times of all classpath entries.
+	 * @see #summarize(Path)
+	 */
+	static String fingerprint(ClassLoader classLoader) {
+		MessageDigest digest = createDigest();
+
+		digest.update(new byte[]{ClasspathScanUtil.VERSION});
+
+		for (String classpathEntry : getClasspathEntries(classLoader)) {
+			digest.update(classpathEntry.getBytes(StandardCharsets.UTF_8));
+
+			Path path;
+			try {
+				path = Paths.get(classpathEntry);
+			}
+			catch (InvalidPathException e) {
+				continue;
+			}
+
+			if (Files.isDirectory(path)) {
+				try {
+					updateDigest(digest, path, summarize(path));
+				}
+				catch (IOException e) {
+					log.debug("Failed to walk classpath directory {}", path, e);
+				}
+			}
+			else if (Files.exists(path)) {
+				updateDigest(digest, path);
+			}
+		}
+
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	private static List<String> getClasspathEntries(ClassLoader classLoader) {
+		List<String> classpathEntries = new ArrayList<>();
+
+		String javaClassPath = System.getProperty("java.class.path");
+		if (StringUtils.hasText(javaClassPath)) {
+			classpathEntries.addAll(List.of(javaClassPath.split(File.pathSeparator)));
+		}
+
+		for (ClassLoader cl = classLoader; cl != null; cl = cl.getParent()) {
+			if (cl instanceof URLClassLoader urlClassLoader) {
+				for (URL url : urlClassLoader.getURLs()) {
+					classpathEntries.add(toClasspathEntry(url));
+				}
+			}
+		}
+
+		return classpathEntries;
+	}
+
+	private static String toClasspathEntry(URL url) {
+		if (ResourceUtils.URL_PROTOCOL_FILE.equals(url.getProtocol())) {
+			try {
+				return ResourceUtils.getFile(url).getPath();
+			}
+			catch (IOException e) {
+				log.debug("Failed to resolve {}", url, e);
+			}
+		}
+		// Nested jars of executable archives are covered by the size and modification time of the archive itself.
+		return url.toString();
+	}
+
+	/**
+	 * Summarizes a classpath directory without hashing each of its files.
+	 * <p>
+	 * The modification times of the (sub-)directories change whenever files are added, removed or renamed.
+	 * Files which are rewritten in place (e.g. recompiled classes) are covered by the newest file modification time.
+	 * Both only use the attributes the walk reads anyway.
+	 *
+	 * @param directory The classpath directory.
+	 * @return The summary of the directory.
+	 * @throws IOException If the directory could not be walked.
+	 */
+	static DirectorySummary summarize(Path directory) throws IOException {
+		DirectorySummary summary = new DirectorySummary();
+
+		Files.walkFileTree(directory, new SimpleFileVisitor<>() {
+			@Override
+			public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+				summary.directories++;
+				summary.directoryModificationTimes += attrs.lastModifiedTime().toMillis();
+				return FileVisitResult.CONTINUE;
+			}
+
+			@Override
+			public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+				summary.files++;
+				summary.lastModifiedFile = Math.max(summary.lastModifiedFile, attrs.lastModifiedTime().toMillis());
+				return FileVisitResult.CONTINUE;
+			}
+		});
+
+		return summary;
+	}
+
+	private static void updateDigest(MessageDigest digest, Path directory, DirectorySummary summary) {
+		digest.update(directory.toString().getBytes(StandardCharsets.UTF_8));
+		digest.update(summary.toString().getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static void updateDigest(MessageDigest digest, Path path) {
+		try {
+			BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+			digest.update(path.toString().getBytes(StandardCharsets.UTF_8));
+			digest.update(Long.toString(attributes.size()).getBytes(StandardCharsets.UTF_8));
+			digest.update(Long.toString(attributes.lastModifiedTime().toMillis()).getBytes(StandardCharsets.UTF_8));
+		}
+		catch (IOException e) {
+			log.debug("Failed to read attributes of {}", path, e);
+		}
+	}
+
+	/**
+	 * Cheap summary of a classpath directory, which changes whenever the classes in it change.
+	 *
+	 * @see #summarize(Path)
+	 */
+	@ToString
+	static class DirectorySummary {
+		private int directories;
+		private long directoryModificationTimes;
+		private int files;
+		private long lastModifiedFile;
+	}
+
+	@FunctionalInterface
+	private interface CacheWriter {
+		void write(OutputStream out) throws IOException;
+	}
+}
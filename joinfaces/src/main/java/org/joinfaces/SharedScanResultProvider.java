@@ -0,0 +1,286 @@
+/*
+ * Copyright 2016-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.joinfaces;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import io.github.classgraph.ClassGraph;
+import io.github.classgraph.ScanResult;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.lang.Nullable;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.StopWatch;
+
+/**
+ * Provides a single, lazily created ClassGraph {@link ScanResult} which is shared by all classpath scans
+ * JoinFaces performs at startup, so the classpath only has to be scanned once.
+ * <p>
+ * Users {@link #acquire() acquire} the {@link ScanResult} and have to {@link #release(ScanResult) release}
+ * it when they are done. The {@link ScanResult} is closed once the application context has been refreshed
+ * and all users have released it.
+ * A {@link ScanResult} acquired after that is created again and closed as soon as it's released.
+ * <p>
+ * Components which are not managed by Spring (e.g. Weld's discovery strategy) can look up the provider
+ * through {@link #getCurrent()} while a servlet container initializer which has been
+ * {@link #bind(SharedScanResultProvider) bound} to it is running.
+ *
+ * @author Lars Grefer
+ */
+@Slf4j
+public class SharedScanResultProvider implements ApplicationListener<ContextRefreshedEvent>, DisposableBean {
+
+	private static final ThreadLocal<SharedScanResultProvider> CURRENT = new ThreadLocal<>();
+
+	@Nullable
+	private ScanResult scanResult;
+
+	@Nullable
+	private CompletableFuture<ScanResult> pendingScan;
+
+	@Nullable
+	private StartupReport.Step pendingScanStep;
+
+	private int references;
+
+	private boolean closed;
+
+	/**
+	 * Packages (including their sub-packages) to which the shared classpath scan is restricted.
+	 */
+	@Getter
+	@Setter
+	@Nullable
+	private List<String> acceptedPackages;
+
+	/**
+	 * Jars (file names, may contain {@code *} wildcards) which are excluded from the shared classpath scan.
+	 */
+	@Getter
+	@Setter
+	@Nullable
+	private List<String> rejectedJars;
+
+	/**
+	 * Whether method and field information is included in the shared classpath scan.
+	 * Users which need this information perform their own scan if this is disabled.
+	 */
+	@Getter
+	@Setter
+	private boolean scanMethodAndFieldAnnotations = true;
+
+	/**
+	 * The provider {@link #bind(SharedScanResultProvider) bound} to the current thread, if any.
+	 *
+	 * @return The current provider or {@code null}.
+	 */
+	@Nullable
+	public static SharedScanResultProvider getCurrent() {
+		return CURRENT.get();
+	}
+
+	/**
+	 * Binds the given provider to the current thread until the returned {@link Binding} is closed.
+	 *
+	 * @param scanResultProvider The provider to bind, may be {@code null}.
+	 * @return The {@link Binding}, which restores the previously bound provider when closed.
+	 */
+	public static Binding bind(@Nullable SharedScanResultProvider scanResultProvider) {
+		SharedScanResultProvider previous = CURRENT.get();
+		CURRENT.set(scanResultProvider);
+		return new Binding(previous);
+	}
+
+	/**
+	 * Acquires the shared {@link ScanResult}, performing the classpath scan if necessary.
+	 *
+	 * @return The shared {@link ScanResult}.
+	 * @see #release(ScanResult)
+	 */
+	public synchronized ScanResult acquire() {
+		if (this.scanResult == null) {
+			this.scanResult = this.pendingScan != null ? awaitPendingScan(this.pendingScan) : reportedScan();
+			this.pendingScan = null;
+			this.pendingScanStep = null;
+		}
+		this.references++;
+		return this.scanResult;
+	}
+
+	/**
+	 * Starts the classpath scan on a background thread, so it overlaps with the rest of the application startup.
+	 * {@link #acquire()} waits for this scan to finish.
+	 */
+	public synchronized void startAsyncScan() {
+		if (this.scanResult != null || this.pendingScan != null) {
+			return;
+		}
+
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("joinfaces-classpath-scan-");
+		executor.setDaemon(true);
+
+		// The step is ended on the scan thread, but reported from the thread which acquires the result.
+		StartupReport.Step step = StartupReport.startBackground("classpath-scan.shared");
+		this.pendingScanStep = step;
+
+		this.pendingScan = CompletableFuture.supplyAsync(() -> {
+			try {
+				return scan();
+			}
+			finally {
+				step.tag("async", "true").end();
+			}
+		}, executor);
+	}
+
+	private ScanResult awaitPendingScan(CompletableFuture<ScanResult> pendingScan) {
+		try (StartupReport.Step step = StartupReport.start("classpath-scan.await")) {
+			return pendingScan.join();
+		}
+		catch (CompletionException e) {
+			log.warn("Asynchronous classpath scan failed, scanning again", e.getCause());
+			return reportedScan();
+		}
+		finally {
+			if (this.pendingScanStep != null) {
+				StartupReport.publish(this.pendingScanStep.getEntry());
+			}
+		}
+	}
+
+	private ScanResult reportedScan() {
+		try (StartupReport.Step step = StartupReport.start("classpath-scan.shared")) {
+			return scan();
+		}
+	}
+
+	/**
+	 * Releases a {@link ScanResult} previously obtained by {@link #acquire()}.
+	 *
+	 * @param scanResult The {@link ScanResult} to release.
+	 */
+	public synchronized void release(ScanResult scanResult) {
+		if (scanResult != this.scanResult) {
+			throw new IllegalArgumentException("ScanResult was not acquired from this provider");
+		}
+
+		this.references--;
+
+		if (this.closed && this.references == 0) {
+			closeScanResult();
+		}
+	}
+
+	/**
+	 * Closes the shared {@link ScanResult} as soon as it's not used anymore.
+	 */
+	public synchronized void close() {
+		this.closed = true;
+
+		if (this.references == 0) {
+			closeScanResult();
+		}
+	}
+
+	@Override
+	public void onApplicationEvent(ContextRefreshedEvent event) {
+		close();
+	}
+
+	@Override
+	public void destroy() {
+		close();
+	}
+
+	protected ScanResult scan() {
+		StopWatch stopWatch = new StopWatch("shared-classpath-scan");
+		stopWatch.start();
+
+		// Union of the information needed by all users.
+		ClassGraph classGraph = new ClassGraph()
+				.enableClassInfo()
+				.enableAnnotationInfo()
+				.enableExternalClasses();
+
+		if (this.scanMethodAndFieldAnnotations) {
+			classGraph = classGraph.enableMethodInfo()
+					.enableFieldInfo();
+		}
+
+		if (!CollectionUtils.isEmpty(this.acceptedPackages)) {
+			classGraph = classGraph.acceptPackages(this.acceptedPackages.toArray(new String[0]));
+		}
+
+		if (!CollectionUtils.isEmpty(this.rejectedJars)) {
+			classGraph = classGraph.rejectJars(this.rejectedJars.toArray(new String[0]));
+		}
+
+		ScanResult result = classGraph.scan();
+
+		stopWatch.stop();
+		log.info("Shared classpath scan took {}ms", stopWatch.getTotalTimeMillis());
+
+		return result;
+	}
+
+	private void closeScanResult() {
+		if (this.pendingScan != null) {
+			// Nobody needed the result of the asynchronous scan.
+			this.pendingScan.thenAccept(ScanResult::close);
+			this.pendingScan = null;
+			this.pendingScanStep = null;
+		}
+
+		if (this.scanResult != null) {
+			this.scanResult.close();
+			this.scanResult = null;
+		}
+	}
+
+	/**
+	 * A provider {@link #bind(SharedScanResultProvider) bound} to the current thread.
+	 *
+	 * @author Lars Grefer
+	 */
+	public static final class Binding implements AutoCloseable {
+
+		@Nullable
+		private final SharedScanResultProvider previous;
+
+		private Binding(@Nullable SharedScanResultProvider previous) {
+			this.previous = previous;
+		}
+
+		@Override
+		public void close() {
+			if (this.previous != null) {
+				CURRENT.set(this.previous);
+			}
+			else {
+				CURRENT.remove();
+			}
+		}
+	}
+}
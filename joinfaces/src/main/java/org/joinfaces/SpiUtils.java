@@ -16,30 +16,197 @@
 
 package org.joinfaces;
 
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.aot.generate.GenerationContext;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.StringUtils;
 
+/**
+ * Discovery of the faces-config and facelet taglib resources for the SPI implementations of Mojarra and MyFaces.
+ * <p>
+ * The classpath is searched only once per {@link ResourcePatternResolver}. If a list of the resource names
+ * has been {@link #writePreparedResourceNames(GenerationContext, Collection) prepared} at build time, the resources are
+ * looked up directly by name and no wildcard search is needed at all.
+ * <p>
+ * The resources are returned in classpath order, with all {@code META-INF/faces-config.xml} files first,
+ * as the order of the faces-configs matters to the faces implementations.
+ *
+ * @author Lars Grefer
+ */
+@Slf4j
 @UtilityClass
 public class SpiUtils {
 
+	/**
+	 * Resource path for the prepared list of faces-config and taglib resource names.
+	 */
+	public static final String PREPARED_RESOURCE_NAMES_PATH = "META-INF/joinfaces/faces-resources.list";
+
+	private static final String FACES_CONFIG_FILENAME = "faces-config.xml";
+
+	private static final String FACES_CONFIG = "META-INF/" + FACES_CONFIG_FILENAME;
+
+	private static final Map<ResourcePatternResolver, ResourceIndex> INDEXES = new ConcurrentReferenceHashMap<>(16, ConcurrentReferenceHashMap.ReferenceType.WEAK);
+
 	public Collection<Resource> getFacesConfigs(ResourcePatternResolver resourcePatternResolver) throws IOException {
+		return getIndex(resourcePatternResolver).facesConfigs();
+	}
+
+	public Collection<Resource> getFaceletConfigs(ResourcePatternResolver resourcePatternResolver) throws IOException {
+		return getIndex(resourcePatternResolver).faceletConfigs();
+	}
+
+	/**
+	 * Finds the names of all {@code META-INF/*.faces-config.xml} and {@code META-INF/*.taglib.xml} resources.
+	 *
+	 * @param resourcePatternResolver The {@link ResourcePatternResolver} used to search the classpath.
+	 * @return The distinct resource names, in classpath order.
+	 * @throws IOException if the classpath could not be searched.
+	 */
+	public Set<String> findResourceNames(ResourcePatternResolver resourcePatternResolver) throws IOException {
+		Set<String> resourceNames = new LinkedHashSet<>();
+		for (Resource resource : findResources(resourcePatternResolver)) {
+			resourceNames.add("META-INF/" + resource.getFilename());
+		}
+		resourceNames.remove(FACES_CONFIG);
+		return resourceNames;
+	}
 
-		Collection<Resource> resources = new ArrayList<>();
+	// Finds all faces-config and taglib resources with a single wildcard search, in classpath order.
+	private List<Resource> findResources(ResourcePatternResolver resourcePatternResolver) throws IOException {
+		List<Resource> resources = new ArrayList<>();
 
-		resources.addAll(Arrays.asList(resourcePatternResolver.getResources("classpath*:META-INF/faces-config.xml")));
-		resources.addAll(Arrays.asList(resourcePatternResolver.getResources("classpath*:META-INF/*.faces-config.xml")));
+		for (Resource resource : resourcePatternResolver.getResources("classpath*:META-INF/*.xml")) {
+			String filename = resource.getFilename();
+			if (FACES_CONFIG_FILENAME.equals(filename) || isFacesConfig(filename) || isFaceletConfig(filename)) {
+				resources.add(resource);
+			}
+		}
 
 		return resources;
 	}
 
-	public Collection<Resource> getFaceletConfigs(ResourcePatternResolver resourcePatternResolver) throws IOException {
-		return Arrays.asList(resourcePatternResolver.getResources("classpath*:/META-INF/*.taglib.xml"));
+	public void writePreparedResourceNames(GenerationContext generationContext, Collection<String> resourceNames) {
+		generationContext.getRuntimeHints().resources().registerPattern(PREPARED_RESOURCE_NAMES_PATH);
+
+		byte[] content = String.join("\n", resourceNames).getBytes(StandardCharsets.UTF_8);
+		generationContext.getGeneratedFiles().addResourceFile(PREPARED_RESOURCE_NAMES_PATH, () -> new ByteArrayInputStream(content));
+	}
+
+	private ResourceIndex getIndex(ResourcePatternResolver resourcePatternResolver) throws IOException {
+		ResourceIndex index = INDEXES.get(resourcePatternResolver);
+
+		if (index == null) {
+			index = buildIndex(resourcePatternResolver);
+			INDEXES.put(resourcePatternResolver, index);
+		}
+
+		return index;
+	}
+
+	private ResourceIndex buildIndex(ResourcePatternResolver resourcePatternResolver) throws IOException {
+		try (StartupReport.Step step = StartupReport.start("faces-config.discovery")) {
+			List<String> preparedResourceNames = readPreparedResourceNames(resourcePatternResolver.getClassLoader());
+
+			List<Resource> resources;
+			if (preparedResourceNames != null) {
+				step.tag("source", "prepared");
+				// The prepared names are looked up directly, without a wildcard search.
+				// They are listed in classpath order, so resources with distinct names keep their order.
+				resources = new ArrayList<>(Arrays.asList(resourcePatternResolver.getResources("classpath*:" + FACES_CONFIG)));
+				for (String resourceName : preparedResourceNames) {
+					resources.addAll(Arrays.asList(resourcePatternResolver.getResources("classpath*:" + resourceName)));
+				}
+			}
+			else {
+				step.tag("source", "classpath");
+				resources = findResources(resourcePatternResolver);
+			}
+
+			List<Resource> facesConfigs = new ArrayList<>();
+			List<Resource> namedFacesConfigs = new ArrayList<>();
+			List<Resource> faceletConfigs = new ArrayList<>();
+
+			for (Resource resource : resources) {
+				String filename = resource.getFilename();
+				if (FACES_CONFIG_FILENAME.equals(filename)) {
+					facesConfigs.add(resource);
+				}
+				else if (isFacesConfig(filename)) {
+					namedFacesConfigs.add(resource);
+				}
+				else if (isFaceletConfig(filename)) {
+					faceletConfigs.add(resource);
+				}
+			}
+			facesConfigs.addAll(namedFacesConfigs);
+
+			step.tag("faces-configs", String.valueOf(facesConfigs.size()));
+			step.tag("facelet-configs", String.valueOf(faceletConfigs.size()));
+
+			return new ResourceIndex(Collections.unmodifiableList(facesConfigs), Collections.unmodifiableList(faceletConfigs));
+		}
+	}
+
+	@Nullable
+	private List<String> readPreparedResourceNames(@Nullable ClassLoader classLoader) {
+		ClassLoader cl = classLoader != null ? classLoader : ClassUtils.getDefaultClassLoader();
+		if (cl == null) {
+			return null;
+		}
+
+		InputStream inputStream = cl.getResourceAsStream(PREPARED_RESOURCE_NAMES_PATH);
+		if (inputStream == null) {
+			return null;
+		}
+
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+			return reader.lines()
+					.filter(StringUtils::hasText)
+					.toList();
+		}
+		catch (IOException e) {
+			log.warn("Failed to read {}", PREPARED_RESOURCE_NAMES_PATH, e);
+			return null;
+		}
+	}
+
+	private boolean isFacesConfig(@Nullable String name) {
+		return name != null && name.endsWith(".faces-config.xml");
+	}
+
+	private boolean isFaceletConfig(@Nullable String name) {
+		return name != null && name.endsWith(".taglib.xml");
+	}
+
+	/**
+	 * The faces-config and facelet taglib resources found on the classpath.
+	 *
+	 * @param facesConfigs   The faces-config resources.
+	 * @param faceletConfigs The facelet taglib resources.
+	 * @author Lars Grefer
+	 */
+	private record ResourceIndex(List<Resource> facesConfigs, List<Resource> faceletConfigs) {
 	}
 }
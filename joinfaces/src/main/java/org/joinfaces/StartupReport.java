@@ -0,0 +1,227 @@
+/*
+ * Copyright 2016-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.joinfaces;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import lombok.experimental.UtilityClass;
+
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.lang.Nullable;
+
+/**
+ * Records the duration of the JoinFaces initialization phases (classpath scans, loading prepared scan results,
+ * faces-config discovery, Weld bean discovery, ...).
+ * <p>
+ * Each {@link Step} is also reported as {@link StartupStep} to the {@link ApplicationStartup} of the
+ * application, if one has been {@link #setApplicationStartup(ApplicationStartup) set}.
+ * This is static, because many of these phases run outside of Spring managed components.
+ * At most {@link #MAX_ENTRIES} steps are kept, and they are {@link #drainEntries() drained} by each application
+ * context once it has been refreshed.
+ * <p>
+ * Steps which run on a background thread have to be {@link #startBackground(String) started} separately,
+ * because the {@link ApplicationStartup} expects all steps to be started and ended on the same thread.
+ *
+ * @author Lars Grefer
+ */
+@UtilityClass
+public class StartupReport {
+
+	/**
+	 * Prefix of the names of all JoinFaces {@link StartupStep}s.
+	 */
+	public static final String STEP_PREFIX = "joinfaces.";
+
+	/**
+	 * Maximum number of recorded steps. The oldest steps are dropped once this is exceeded.
+	 */
+	public static final int MAX_ENTRIES = 256;
+
+	private static final Queue<Entry> ENTRIES = new ConcurrentLinkedQueue<>();
+
+	private static final AtomicInteger ENTRY_COUNT = new AtomicInteger();
+
+	private static volatile ApplicationStartup applicationStartup = ApplicationStartup.DEFAULT;
+
+	public static void setApplicationStartup(ApplicationStartup applicationStartup) {
+		StartupReport.applicationStartup = applicationStartup;
+	}
+
+	/**
+	 * Starts a new step.
+	 *
+	 * @param name The name of the step, without the {@link #STEP_PREFIX}.
+	 * @return The started {@link Step}, which has to be {@link Step#end() ended}.
+	 */
+	public static Step start(String name) {
+		return new Step(name, applicationStartup.start(STEP_PREFIX + name));
+	}
+
+	/**
+	 * Starts a new step on a background thread.
+	 * <p>
+	 * The step is neither reported to the {@link ApplicationStartup} nor recorded when it ends.
+	 * This has to be done by {@link #publish(Entry) publishing} its {@link Step#getEntry() entry} from the thread
+	 * which refreshes the application context.
+	 *
+	 * @param name The name of the step, without the {@link #STEP_PREFIX}.
+	 * @return The started {@link Step}, which has to be {@link Step#end() ended}.
+	 */
+	public static Step startBackground(String name) {
+		return new Step(name, null);
+	}
+
+	/**
+	 * Records a step which has been measured on a background thread.
+	 *
+	 * @param entry The {@link Step#getEntry() entry} of the ended step.
+	 * @see #startBackground(String)
+	 */
+	public static void publish(Entry entry) {
+		StartupStep startupStep = applicationStartup.start(STEP_PREFIX + entry.name());
+		entry.tags().forEach(startupStep::tag);
+		startupStep.tag("duration-ms", String.valueOf(entry.duration().toMillis()));
+		startupStep.end();
+
+		addEntry(entry);
+	}
+
+	/**
+	 * The steps recorded so far, in the order they ended.
+	 *
+	 * @return The recorded steps.
+	 */
+	public static List<Entry> getEntries() {
+		return Collections.unmodifiableList(new ArrayList<>(ENTRIES));
+	}
+
+	/**
+	 * Removes and returns the steps recorded so far, in the order they ended.
+	 *
+	 * @return The removed steps.
+	 */
+	public static List<Entry> drainEntries() {
+		List<Entry> entries = new ArrayList<>();
+
+		Entry entry;
+		while ((entry = ENTRIES.poll()) != null) {
+			ENTRY_COUNT.decrementAndGet();
+			entries.add(entry);
+		}
+
+		return Collections.unmodifiableList(entries);
+	}
+
+	public static void clear() {
+		drainEntries();
+	}
+
+	private static void addEntry(Entry entry) {
+		ENTRIES.add(entry);
+
+		if (ENTRY_COUNT.incrementAndGet() > MAX_ENTRIES && ENTRIES.poll() != null) {
+			ENTRY_COUNT.decrementAndGet();
+		}
+	}
+
+	/**
+	 * A recorded step.
+	 *
+	 * @param name     The name of the step.
+	 * @param tags     Additional information about the step.
+	 * @param duration The duration of the step.
+	 * @author Lars Grefer
+	 */
+	public record Entry(String name, Map<String, String> tags, Duration duration) {
+	}
+
+	/**
+	 * A running step.
+	 *
+	 * @author Lars Grefer
+	 */
+	public static final class Step implements AutoCloseable {
+
+		private final String name;
+		@Nullable
+		private final StartupStep startupStep;
+		private final Map<String, String> tags = new LinkedHashMap<>();
+		private final long start = System.nanoTime();
+		@Nullable
+		private Entry entry;
+
+		private Step(String name, @Nullable StartupStep startupStep) {
+			this.name = name;
+			this.startupStep = startupStep;
+		}
+
+		public Step tag(String key, String value) {
+			this.tags.put(key, value);
+			if (this.startupStep != null) {
+				this.startupStep.tag(key, value);
+			}
+			return this;
+		}
+
+		/**
+		 * Ends this step and records its duration.
+		 *
+		 * @return The duration of this step.
+		 */
+		public Duration end() {
+			Duration duration = Duration.ofNanos(System.nanoTime() - this.start);
+
+			if (this.entry == null) {
+				this.entry = new Entry(this.name, Collections.unmodifiableMap(new LinkedHashMap<>(this.tags)), duration);
+
+				if (this.startupStep != null) {
+					this.startupStep.end();
+					addEntry(this.entry);
+				}
+			}
+
+			return duration;
+		}
+
+		/**
+		 * The recorded information of this step.
+		 *
+		 * @return The entry of this step.
+		 * @throws IllegalStateException if this step has not been ended yet.
+		 */
+		public Entry getEntry() {
+			if (this.entry == null) {
+				throw new IllegalStateException("Step " + this.name + " has not been ended yet");
+			}
+			return this.entry;
+		}
+
+		@Override
+		public void close() {
+			end();
+		}
+	}
+}
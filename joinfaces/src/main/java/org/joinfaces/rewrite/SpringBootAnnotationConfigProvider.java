@@ -71,6 +71,13 @@ public class SpringBootAnnotationConfigProvider extends HttpConfigurationProvide
 	@Setter
 	private List<String> basePackages;
 
+	/**
+	 * Whether a large prepared scan result is loaded using multiple threads.
+	 */
+	@Getter
+	@Setter
+	private boolean parallelLoading = false;
+
 	@Override
 	@Nullable
 	public Configuration getConfiguration(final ServletContext servletContext) {
@@ -134,6 +141,6 @@ public class SpringBootAnnotationConfigProvider extends HttpConfigurationProvide
 	}
 
 	private Optional<Set<Class<?>>> findPreparedScanResult(ClassLoader classLoader) {
-		return ClasspathScanUtil.readClassSet(PREPARED_SCAN_RESULT_PATH, classLoader);
+		return ClasspathScanUtil.readClassSet(PREPARED_SCAN_RESULT_PATH, classLoader, isParallelLoading());
 	}
 }
@@ -16,8 +16,11 @@
 
 package org.joinfaces.servlet;
 
+import java.nio.file.Path;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -26,18 +29,25 @@ import jakarta.servlet.annotation.HandlesTypes;
 
 import io.github.classgraph.ClassGraph;
 import io.github.classgraph.ScanResult;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.joinfaces.ClasspathScanUtil;
+import org.joinfaces.ScanResultCache;
+import org.joinfaces.SharedScanResultProvider;
+import org.joinfaces.StartupReport;
 
 import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
 import org.springframework.boot.web.server.WebServerFactoryCustomizer;
 import org.springframework.boot.web.servlet.RegistrationBean;
 import org.springframework.boot.web.servlet.server.ConfigurableServletWebServerFactory;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.lang.Nullable;
+import org.springframework.util.CollectionUtils;
 import org.springframework.util.StopWatch;
 
 /**
@@ -53,21 +63,87 @@ import org.springframework.util.StopWatch;
 @Getter
 @Setter
 @Slf4j
-public class ServletContainerInitializerRegistrationBean<T extends ServletContainerInitializer> implements WebServerFactoryCustomizer<ConfigurableServletWebServerFactory> {
+public class ServletContainerInitializerRegistrationBean<T extends ServletContainerInitializer> implements WebServerFactoryCustomizer<ConfigurableServletWebServerFactory>, BeanFactoryAware {
 
 	private final Class<T> servletContainerInitializerClass;
 	private boolean usePreparedScanResult = true;
+	private boolean useScanResultCache = true;
+	private boolean useSharedScanResult = true;
+	@Nullable
+	private SharedScanResultProvider scanResultProvider;
+	@Nullable
+	@Getter(AccessLevel.NONE)
+	private BeanFactory beanFactory;
+
+	/**
+	 * Packages (including their sub-packages) to which the classpath scan is restricted.
+	 */
+	@Nullable
+	private List<String> acceptedPackages;
+
+	/**
+	 * Jars (file names, may contain {@code *} wildcards) which are excluded from the classpath scan.
+	 */
+	@Nullable
+	private List<String> rejectedJars;
+
+	/**
+	 * Whether classes are also found by annotated methods and fields, when the initializer handles annotations.
+	 */
+	private boolean scanMethodAndFieldAnnotations = true;
+
+	/**
+	 * Whether large prepared and cached scan results are loaded using multiple threads.
+	 */
+	private boolean parallelLoading = false;
+
+	/**
+	 * Directory of the {@link ScanResultCache}. The cache is not used if this is not set.
+	 */
+	@Nullable
+	private Path scanResultCacheDirectory;
 
 	@Override
 	public void customize(ConfigurableServletWebServerFactory factory) {
 		factory.addInitializers(servletContext -> {
 			T servletContextInitializer = BeanUtils.instantiateClass(getServletContainerInitializerClass());
-			servletContextInitializer.onStartup(getClasses(servletContext.getClassLoader()), servletContext);
+			Set<Class<?>> classes = getClasses(servletContext.getClassLoader());
+
+			// Lets components created by the initializer itself (e.g. Weld's discovery strategy) use the provider.
+			try (StartupReport.Step step = StartupReport.start("servlet-container-initializer.startup");
+				SharedScanResultProvider.Binding binding = SharedScanResultProvider.bind(getScanResultProvider())) {
+				step.tag("initializer", getServletContainerInitializerClass().getName());
+				servletContextInitializer.onStartup(classes, servletContext);
+			}
 		});
 	}
 
+	@Nullable
 	protected Set<Class<?>> getClasses(ClassLoader classLoader) {
-		return findPreparedScanResult(classLoader).orElseGet(this::performClasspathScan);
+		try (StartupReport.Step step = StartupReport.start("servlet-container-initializer.classes")) {
+			step.tag("initializer", getServletContainerInitializerClass().getName());
+
+			Optional<Set<Class<?>>> preparedScanResult = findPreparedScanResult(classLoader);
+			if (preparedScanResult.isPresent()) {
+				step.tag("source", "prepared-scan-result");
+				return preparedScanResult.get();
+			}
+
+			Optional<Set<Class<?>>> cachedScanResult = findCachedScanResult(classLoader);
+			if (cachedScanResult.isPresent()) {
+				step.tag("source", "scan-result-cache");
+				return cachedScanResult.get().isEmpty() ? null : cachedScanResult.get();
+			}
+
+			step.tag("source", "classpath-scan");
+			Set<Class<?>> classes = performClasspathScan();
+
+			if (isUseScanResultCache()) {
+				ScanResultCache.writeClassSet(getScanResultCacheDirectory(), getServletContainerInitializerClass().getName(), getScanConfiguration(), classes != null ? classes : Collections.emptySet(), classLoader);
+			}
+
+			return classes;
+		}
 	}
 
 	protected Optional<Set<Class<?>>> findPreparedScanResult(ClassLoader classLoader) {
@@ -76,7 +152,49 @@ public class ServletContainerInitializerRegistrationBean<T extends ServletContai
 			return Optional.empty();
 		}
 
-		return ClasspathScanUtil.readClassSet(getPreparedScanResultPath(), classLoader);
+		return ClasspathScanUtil.readClassSet(getPreparedScanResultPath(), classLoader, isParallelLoading());
+	}
+
+	/**
+	 * Reads the scan result persisted by a previous start from the {@link ScanResultCache}.
+	 *
+	 * @param classLoader The {@link ClassLoader} used to load the classes.
+	 * @return The cached scan result, if present and the classpath didn't change since.
+	 */
+	protected Optional<Set<Class<?>>> findCachedScanResult(ClassLoader classLoader) {
+
+		if (!isUseScanResultCache()) {
+			return Optional.empty();
+		}
+
+		return ScanResultCache.readClassSet(getScanResultCacheDirectory(), getServletContainerInitializerClass().getName(), getScanConfiguration(), classLoader, isParallelLoading());
+	}
+
+	/**
+	 * Describes the settings which determine the result of {@link #performClasspathScan()}.
+	 * This is part of the {@link ScanResultCache} key, so changed settings never reuse stale results.
+	 *
+	 * @return The description of the effective scan configuration.
+	 */
+	public String getScanConfiguration() {
+		HandlesTypes handlesTypes = AnnotationUtils.findAnnotation(getServletContainerInitializerClass(), HandlesTypes.class);
+		List<String> handledTypes = handlesTypes != null
+				? Arrays.stream(handlesTypes.value()).map(Class::getName).sorted().toList()
+				: Collections.emptyList();
+
+		SharedScanResultProvider scanResultProvider = getScanResultProvider();
+
+		List<String> effectiveAcceptedPackages = this.acceptedPackages;
+		List<String> effectiveRejectedJars = this.rejectedJars;
+		if (scanResultProvider != null && canUseSharedScanResult(scanResultProvider)) {
+			effectiveAcceptedPackages = scanResultProvider.getAcceptedPackages();
+			effectiveRejectedJars = scanResultProvider.getRejectedJars();
+		}
+
+		return "handledTypes=" + handledTypes
+				+ ";acceptedPackages=" + effectiveAcceptedPackages
+				+ ";rejectedJars=" + effectiveRejectedJars
+				+ ";scanMethodAndFieldAnnotations=" + isScanMethodAndFieldAnnotations();
 	}
 
 	public String getPreparedScanResultPath() {
@@ -97,6 +215,29 @@ public class ServletContainerInitializerRegistrationBean<T extends ServletContai
 		}
 
 		StopWatch stopWatch = new StopWatch(getServletContainerInitializerClass().getName());
+		Set<Class<?>> classes = new HashSet<>();
+
+		SharedScanResultProvider scanResultProvider = getScanResultProvider();
+
+		if (scanResultProvider != null && canUseSharedScanResult(scanResultProvider)) {
+			stopWatch.start("shared classpath scan");
+			ScanResult scanResult = scanResultProvider.acquire();
+			try {
+				stopWatch.stop();
+				stopWatch.start("collect results");
+
+				collectClasses(scanResult, handledTypes, classes);
+				handleScanResult(scanResult);
+			}
+			finally {
+				scanResultProvider.release(scanResult);
+				stopWatch.stop();
+				logStopWatch(stopWatch);
+			}
+
+			return classes.isEmpty() ? null : classes;
+		}
+
 		stopWatch.start("prepare");
 
 		ClassGraph classGraph = new ClassGraph()
@@ -104,9 +245,20 @@ public class ServletContainerInitializerRegistrationBean<T extends ServletContai
 
 		// Only scan for Annotations if we have to
 		if (Arrays.stream(handledTypes).anyMatch(Class::isAnnotation)) {
-			classGraph = classGraph.enableAnnotationInfo()
-					.enableMethodInfo()
-					.enableFieldInfo();
+			classGraph = classGraph.enableAnnotationInfo();
+
+			if (isScanMethodAndFieldAnnotations()) {
+				classGraph = classGraph.enableMethodInfo()
+						.enableFieldInfo();
+			}
+		}
+
+		if (!CollectionUtils.isEmpty(this.acceptedPackages)) {
+			classGraph = classGraph.acceptPackages(this.acceptedPackages.toArray(new String[0]));
+		}
+
+		if (!CollectionUtils.isEmpty(this.rejectedJars)) {
+			classGraph = classGraph.rejectJars(this.rejectedJars.toArray(new String[0]));
 		}
 
 		classGraph = classGraph.enableExternalClasses()
@@ -115,8 +267,6 @@ public class ServletContainerInitializerRegistrationBean<T extends ServletContai
 					return true;
 				});
 
-		Set<Class<?>> classes = new HashSet<>();
-
 		stopWatch.stop();
 		stopWatch.start("classpath scan");
 
@@ -125,33 +275,67 @@ public class ServletContainerInitializerRegistrationBean<T extends ServletContai
 			stopWatch.stop();
 			stopWatch.start("collect results");
 
-			for (Class<?> handledType : handledTypes) {
-				if (handledType.isAnnotation()) {
-					classes.addAll(scanResult.getClassesWithAnnotation(handledType.getName()).loadClasses());
-					classes.addAll(scanResult.getClassesWithMethodAnnotation(handledType.getName()).loadClasses());
-					classes.addAll(scanResult.getClassesWithFieldAnnotation(handledType.getName()).loadClasses());
-				}
-				else if (handledType.isInterface()) {
-					classes.addAll(scanResult.getClassesImplementing(handledType).loadClasses());
-				}
-				else {
-					classes.addAll(scanResult.getSubclasses(handledType.getName()).loadClasses());
-				}
-			}
-
+			collectClasses(scanResult, handledTypes, classes);
 			handleScanResult(scanResult);
 		}
 		finally {
 			stopWatch.stop();
-			log.info("Resolving classes for {} took {}s", getServletContainerInitializerClass().getName(), stopWatch.getTotalTimeSeconds());
-			if (log.isDebugEnabled()) {
-				log.debug(stopWatch.prettyPrint());
-			}
+			logStopWatch(stopWatch);
 		}
 
 		return classes.isEmpty() ? null : classes;
 	}
 
+	/**
+	 * The {@link SharedScanResultProvider} used by {@link #performClasspathScan()}.
+	 * Defaults to the {@link SharedScanResultProvider} bean of the {@link BeanFactory} this bean is defined in.
+	 * <p>
+	 * The provider bean is looked up here, because the embedded servlet container runs the initializers
+	 * before the regular singletons have been created.
+	 *
+	 * @return The {@link SharedScanResultProvider} or {@code null} if a separate classpath scan should be performed.
+	 */
+	@Nullable
+	public SharedScanResultProvider getScanResultProvider() {
+		if (!isUseSharedScanResult()) {
+			return null;
+		}
+		if (this.scanResultProvider == null && this.beanFactory != null) {
+			this.scanResultProvider = this.beanFactory.getBeanProvider(SharedScanResultProvider.class).getIfAvailable();
+		}
+		return this.scanResultProvider;
+	}
+
+	// The shared scan can only be used if it contains all the information this initializer needs.
+	private boolean canUseSharedScanResult(SharedScanResultProvider scanResultProvider) {
+		return !isScanMethodAndFieldAnnotations() || scanResultProvider.isScanMethodAndFieldAnnotations();
+	}
+
+	private void collectClasses(ScanResult scanResult, Class<?>[] handledTypes, Set<Class<?>> classes) {
+		for (Class<?> handledType : handledTypes) {
+			if (handledType.isAnnotation()) {
+				classes.addAll(scanResult.getClassesWithAnnotation(handledType.getName()).loadClasses());
+				if (isScanMethodAndFieldAnnotations()) {
+					classes.addAll(scanResult.getClassesWithMethodAnnotation(handledType.getName()).loadClasses());
+					classes.addAll(scanResult.getClassesWithFieldAnnotation(handledType.getName()).loadClasses());
+				}
+			}
+			else if (handledType.isInterface()) {
+				classes.addAll(scanResult.getClassesImplementing(handledType).loadClasses());
+			}
+			else {
+				classes.addAll(scanResult.getSubclasses(handledType.getName()).loadClasses());
+			}
+		}
+	}
+
+	private void logStopWatch(StopWatch stopWatch) {
+		log.info("Resolving classes for {} took {}s", getServletContainerInitializerClass().getName(), stopWatch.getTotalTimeSeconds());
+		if (log.isDebugEnabled()) {
+			log.debug(stopWatch.prettyPrint());
+		}
+	}
+
 	protected void handleScanResult(ScanResult scanResult) {
 
 	}
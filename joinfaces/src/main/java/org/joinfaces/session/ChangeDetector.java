@@ -0,0 +1,50 @@
+/*
+ * Copyright 2016-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.joinfaces.session;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Strategy used by the {@link SpringSessionFixFilter} to detect whether a session attribute
+ * was changed while the request was processed.
+ * <p>
+ * A snapshot of every attribute is taken when it is read for the first time.
+ * At the end of the request, only the attributes which changed compared to their snapshot are re-set.
+ *
+ * @author Lars Grefer
+ * @see SerializationChangeDetector
+ */
+public interface ChangeDetector {
+
+	/**
+	 * Takes a snapshot of the given attribute value.
+	 *
+	 * @param value The value of the session attribute, as read for the first time in the current request.
+	 * @return A snapshot of the given value, or {@code null} if no snapshot could be taken.
+	 */
+	@Nullable
+	Object snapshot(Object value);
+
+	/**
+	 * Checks whether the given attribute value changed compared to its snapshot.
+	 *
+	 * @param value    The current value of the session attribute.
+	 * @param snapshot The snapshot previously taken by {@link #snapshot(Object)}, or {@code null} if there is none.
+	 * @return {@code true} if the attribute has to be re-set.
+	 */
+	boolean hasChanged(Object value, @Nullable Object snapshot);
+}
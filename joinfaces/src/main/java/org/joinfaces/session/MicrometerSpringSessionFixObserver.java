@@ -0,0 +1,121 @@
+/*
+ * Copyright 2016-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.joinfaces.session;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.time.Duration;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link SpringSessionFixObserver} which records the work of the {@link SpringSessionFixFilter} as Micrometer meters.
+ * <p>
+ * Optionally, the size of the re-set attributes can be estimated by serializing them.
+ * This is expensive and therefore disabled by default.
+ *
+ * @author Lars Grefer
+ */
+@Slf4j
+public class MicrometerSpringSessionFixObserver implements SpringSessionFixObserver {
+
+	static final String PREFIX = "joinfaces.session-fix";
+
+	private final DistributionSummary readAttributes;
+
+	private final DistributionSummary reSetAttributes;
+
+	private final Timer reSetTimer;
+
+	@Nullable
+	private final DistributionSummary reSetAttributeSize;
+
+	public MicrometerSpringSessionFixObserver(MeterRegistry meterRegistry) {
+		this(meterRegistry, false);
+	}
+
+	public MicrometerSpringSessionFixObserver(MeterRegistry meterRegistry, boolean estimateSize) {
+		this.readAttributes = DistributionSummary.builder(PREFIX + ".attributes.read")
+				.description("Number of session attributes read per request")
+				.register(meterRegistry);
+
+		this.reSetAttributes = DistributionSummary.builder(PREFIX + ".attributes.reset")
+				.description("Number of session attributes re-set per request")
+				.register(meterRegistry);
+
+		this.reSetTimer = Timer.builder(PREFIX + ".reset")
+				.description("Time spent checking and re-setting session attributes per request")
+				.register(meterRegistry);
+
+		this.reSetAttributeSize = estimateSize
+				? DistributionSummary.builder(PREFIX + ".attribute.size")
+				.description("Estimated serialized size of re-set session attributes")
+				.baseUnit("bytes")
+				.register(meterRegistry)
+				: null;
+	}
+
+	@Override
+	public void attributeReSet(String attributeName, Object attributeValue) {
+		if (this.reSetAttributeSize == null || !(attributeValue instanceof Serializable)) {
+			return;
+		}
+
+		CountingOutputStream countingOutputStream = new CountingOutputStream();
+		try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(countingOutputStream)) {
+			objectOutputStream.writeObject(attributeValue);
+		}
+		catch (IOException e) {
+			log.debug("Failed to estimate the size of session attribute {}", attributeName, e);
+			return;
+		}
+
+		this.reSetAttributeSize.record(countingOutputStream.count);
+	}
+
+	@Override
+	public void attributesReSet(int readAttributes, int reSetAttributes, Duration duration) {
+		this.readAttributes.record(readAttributes);
+		this.reSetAttributes.record(reSetAttributes);
+		this.reSetTimer.record(duration);
+	}
+
+	/**
+	 * {@link OutputStream} which only counts the written bytes.
+	 */
+	private static final class CountingOutputStream extends OutputStream {
+
+		private long count;
+
+		@Override
+		public void write(int b) {
+			this.count++;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+			this.count += len;
+		}
+	}
+}
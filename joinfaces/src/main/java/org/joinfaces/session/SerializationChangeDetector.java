@@ -0,0 +1,76 @@
+/*
+ * Copyright 2016-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.joinfaces.session;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link ChangeDetector} which compares a hash of the Java-serialized form of the attribute values.
+ * <p>
+ * This matches the default serialization used by Spring Session, so an attribute is only re-set
+ * if its serialized form would actually differ.
+ * Values which are not {@link Serializable serializable} are always considered changed.
+ *
+ * @author Lars Grefer
+ */
+@Slf4j
+public class SerializationChangeDetector implements ChangeDetector {
+
+	private static final String ALGORITHM = "SHA-256";
+
+	@Override
+	@Nullable
+	public Object snapshot(Object value) {
+		if (!(value instanceof Serializable)) {
+			return null;
+		}
+
+		try {
+			MessageDigest messageDigest = MessageDigest.getInstance(ALGORITHM);
+			try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(new DigestOutputStream(OutputStream.nullOutputStream(), messageDigest))) {
+				objectOutputStream.writeObject(value);
+			}
+			return messageDigest.digest();
+		}
+		catch (IOException | NoSuchAlgorithmException e) {
+			log.debug("Failed to take snapshot of {}", value.getClass(), e);
+			return null;
+		}
+	}
+
+	@Override
+	public boolean hasChanged(Object value, @Nullable Object snapshot) {
+		if (!(snapshot instanceof byte[])) {
+			return true;
+		}
+
+		Object currentSnapshot = snapshot(value);
+
+		return !(currentSnapshot instanceof byte[] && Arrays.equals((byte[]) snapshot, (byte[]) currentSnapshot));
+	}
+}
@@ -17,9 +17,20 @@
 package org.joinfaces.session;
 
 import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.temporal.TemporalAccessor;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Enumeration;
-import java.util.HashSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletContext;
@@ -31,25 +42,92 @@ import jakarta.servlet.http.HttpSession;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.PatternMatchUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 /**
  * {@link jakarta.servlet.Filter Servlet filter} which re-sets session attributes in order to workaround
  * <a href="https://github.com/spring-projects/spring-session/issues/177">spring-projects/spring-session#177</a>.
+ * <p>
+ * By default, all attributes which were read during the request are re-set, unless they are
+ * of an {@link #setImmutableTypes(Collection) immutable type}.
+ * If a {@link ChangeDetector} is configured, only the attributes which actually changed are re-set.
+ * Attributes matching one of the {@link #setIncludedAttributeNames(Collection) included attribute names}
+ * are always re-set after they were read, attributes matching one of the
+ * {@link #setExcludedAttributeNames(Collection) excluded attribute names} are never re-set.
  *
  * @author Lars Grefer
  */
 public class SpringSessionFixFilter extends OncePerRequestFilter {
 
+	/**
+	 * Types whose instances are immutable and therefore never have to be re-set.
+	 * Primitive wrappers are always considered immutable.
+	 */
+	public static final Set<Class<?>> DEFAULT_IMMUTABLE_TYPES = Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(
+			String.class,
+			Enum.class,
+			UUID.class,
+			BigDecimal.class,
+			BigInteger.class,
+			TemporalAccessor.class,
+			Locale.class
+	)));
+
+	@Getter
+	@Setter
+	@Nullable
+	private ChangeDetector changeDetector;
+
+	@Getter
+	@Setter
+	@Nullable
+	private SpringSessionFixObserver observer;
+
+	private Class<?>[] immutableTypes = DEFAULT_IMMUTABLE_TYPES.toArray(new Class<?>[0]);
+
+	private String[] includedAttributeNames = new String[0];
+
+	private String[] excludedAttributeNames = new String[0];
+
+	/**
+	 * Sets the types whose instances are never re-set. Subtypes are considered immutable, too.
+	 *
+	 * @param immutableTypes The immutable types.
+	 * @see #DEFAULT_IMMUTABLE_TYPES
+	 */
+	public void setImmutableTypes(Collection<Class<?>> immutableTypes) {
+		this.immutableTypes = immutableTypes.toArray(new Class<?>[0]);
+	}
+
+	/**
+	 * Sets the names of the attributes which are always re-set when they were read, regardless of their type or changes.
+	 *
+	 * @param includedAttributeNames Attribute name patterns as supported by {@link PatternMatchUtils#simpleMatch(String, String)}.
+	 */
+	public void setIncludedAttributeNames(Collection<String> includedAttributeNames) {
+		this.includedAttributeNames = includedAttributeNames.toArray(new String[0]);
+	}
+
+	/**
+	 * Sets the names of the attributes which are never re-set.
+	 *
+	 * @param excludedAttributeNames Attribute name patterns as supported by {@link PatternMatchUtils#simpleMatch(String, String)}.
+	 */
+	public void setExcludedAttributeNames(Collection<String> excludedAttributeNames) {
+		this.excludedAttributeNames = excludedAttributeNames.toArray(new String[0]);
+	}
+
 	@Override
 	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
 
-		RequestWrapper wrappedRequest = new RequestWrapper(request);
+		RequestWrapper wrappedRequest = new RequestWrapper(request, this);
 
 		try {
 			filterChain.doFilter(wrappedRequest, response);
@@ -58,34 +136,102 @@ public class SpringSessionFixFilter extends OncePerRequestFilter {
 			HttpSession session = request.getSession(false);
 
 			if (session != null) {
-				reSetAttributes(wrappedRequest, session);
+				SpringSessionFixObserver observer = this.observer;
+				if (observer != null) {
+					long start = System.nanoTime();
+					int reSetAttributes = reSetAttributes(wrappedRequest, session);
+					observer.attributesReSet(wrappedRequest.getReadAttributeNames().size(), reSetAttributes, Duration.ofNanos(System.nanoTime() - start));
+				}
+				else {
+					reSetAttributes(wrappedRequest, session);
+				}
 			}
 		}
 
 	}
 
-	private void reSetAttributes(RequestWrapper wrappedRequest, HttpSession session) {
-		if (CollectionUtils.isEmpty(wrappedRequest.readAttributeNames)) {
-			return;
+	private int reSetAttributes(RequestWrapper wrappedRequest, HttpSession session) {
+		Map<String, Object> readAttributes = wrappedRequest.readAttributes;
+		if (CollectionUtils.isEmpty(readAttributes)) {
+			return 0;
 		}
 
-		Enumeration<String> attributeNames = session.getAttributeNames();
-		while (attributeNames.hasMoreElements()) {
-			String attributeName = attributeNames.nextElement();
+		int reSetAttributes = 0;
 
-			if (!wrappedRequest.readAttributeNames.contains(attributeName)) {
-				//Attribute was not read, so we don't need to re-set it.
-				continue;
-			}
+		//Only look at the attributes which were read, enumerating all attribute names is expensive for remote session stores.
+		for (Map.Entry<String, Object> readAttribute : readAttributes.entrySet()) {
+			String attributeName = readAttribute.getKey();
 
 			Object attributeValue = session.getAttribute(attributeName);
-			if (ClassUtils.isPrimitiveOrWrapper(attributeValue.getClass())) {
-				//Attribute is primitive (immutable), so we don't need to re-set it.
+			if (attributeValue == null) {
+				//Attribute does not exist (anymore), so we can't re-set it.
 				continue;
 			}
 
-			session.setAttribute(attributeName, attributeValue);
+			if (needsReSet(attributeName, attributeValue, readAttribute.getValue())) {
+				session.setAttribute(attributeName, attributeValue);
+				reSetAttributes++;
+
+				if (this.observer != null) {
+					this.observer.attributeReSet(attributeName, attributeValue);
+				}
+			}
+		}
+
+		return reSetAttributes;
+	}
+
+	private boolean needsReSet(String attributeName, Object attributeValue, @Nullable Object snapshot) {
+		if (PatternMatchUtils.simpleMatch(this.excludedAttributeNames, attributeName)) {
+			return false;
+		}
+
+		if (PatternMatchUtils.simpleMatch(this.includedAttributeNames, attributeName)) {
+			return true;
+		}
+
+		if (isImmutable(attributeValue)) {
+			//Attribute is immutable, so we don't need to re-set it.
+			return false;
+		}
+
+		//Without a ChangeDetector, we have to assume that the attribute was changed.
+		return this.changeDetector == null || this.changeDetector.hasChanged(attributeValue, snapshot);
+	}
+
+	/**
+	 * Takes a snapshot of a session attribute which was read for the first time.
+	 *
+	 * @param attributeName  The name of the attribute.
+	 * @param attributeValue The value of the attribute.
+	 * @return The snapshot taken by the {@link #getChangeDetector() ChangeDetector}, or {@code null} if none is needed.
+	 */
+	@Nullable
+	Object snapshot(String attributeName, Object attributeValue) {
+		if (this.changeDetector == null
+				|| PatternMatchUtils.simpleMatch(this.excludedAttributeNames, attributeName)
+				|| PatternMatchUtils.simpleMatch(this.includedAttributeNames, attributeName)
+				|| isImmutable(attributeValue)) {
+			return null;
+		}
+
+		return this.changeDetector.snapshot(attributeValue);
+	}
+
+	private boolean isImmutable(Object attributeValue) {
+		Class<?> type = attributeValue.getClass();
+
+		if (ClassUtils.isPrimitiveOrWrapper(type)) {
+			return true;
+		}
+
+		for (Class<?> immutableType : this.immutableTypes) {
+			if (immutableType.isAssignableFrom(type)) {
+				return true;
+			}
 		}
+
+		return false;
 	}
 
 	/**
@@ -96,9 +242,22 @@ public class SpringSessionFixFilter extends OncePerRequestFilter {
 	 */
 	static class RequestWrapper extends HttpServletRequestWrapper {
 
-		@NonNull
-		@Getter
-		private final Set<String> readAttributeNames = new HashSet<>();
+		/**
+		 * The names of all read attributes, mapped to the snapshot taken by the {@link #filter}.
+		 * Lazily created, since many requests don't read any session attributes.
+		 */
+		@Nullable
+		private Map<String, Object> readAttributes;
+
+		@Nullable
+		private final SpringSessionFixFilter filter;
+
+		/**
+		 * The {@link SessionWrapper} of the current session.
+		 * JSF calls {@link #getSession(boolean)} many times per request, so the wrapper is reused.
+		 */
+		@Nullable
+		private SessionWrapper sessionWrapper;
 
 		/**
 		 * Constructs a request object wrapping the given request.
@@ -107,19 +266,58 @@ public class SpringSessionFixFilter extends OncePerRequestFilter {
 		 * @throws IllegalArgumentException if the request is null
 		 */
 		RequestWrapper(HttpServletRequest request) {
+			this(request, null);
+		}
+
+		/**
+		 * Constructs a request object wrapping the given request.
+		 *
+		 * @param request the {@link HttpServletRequest} to be wrapped.
+		 * @param filter  the {@link SpringSessionFixFilter} used to snapshot read attributes.
+		 * @throws IllegalArgumentException if the request is null
+		 */
+		RequestWrapper(HttpServletRequest request, @Nullable SpringSessionFixFilter filter) {
 			super(request);
+			this.filter = filter;
+		}
+
+		@NonNull
+		Set<String> getReadAttributeNames() {
+			return this.readAttributes != null ? this.readAttributes.keySet() : Collections.emptySet();
 		}
 
 		@Override
 		@Nullable
 		public HttpSession getSession(boolean create) {
 			HttpSession session = super.getSession(create);
-			return session != null ? new SessionWrapper(session) : null;
+			return session != null ? getSessionWrapper(session) : null;
 		}
 
 		@Override
 		public HttpSession getSession() {
-			return new SessionWrapper(super.getSession());
+			return getSessionWrapper(super.getSession());
+		}
+
+		private SessionWrapper getSessionWrapper(HttpSession session) {
+			SessionWrapper wrapper = this.sessionWrapper;
+			if (wrapper == null || wrapper.delegate != session) {
+				wrapper = new SessionWrapper(session);
+				this.sessionWrapper = wrapper;
+			}
+			return wrapper;
+		}
+
+		private void recordRead(String name, @Nullable Object value) {
+			Map<String, Object> readAttributes = this.readAttributes;
+			if (readAttributes == null) {
+				readAttributes = new HashMap<>();
+				this.readAttributes = readAttributes;
+			}
+			else if (readAttributes.containsKey(name)) {
+				return;
+			}
+
+			readAttributes.put(name, this.filter != null && value != null ? this.filter.snapshot(name, value) : null);
 		}
 
 		/**
@@ -164,8 +362,9 @@ public class SpringSessionFixFilter extends OncePerRequestFilter {
 			@Override
 			@Nullable
 			public Object getAttribute(String name) {
-				RequestWrapper.this.readAttributeNames.add(name);
-				return this.delegate.getAttribute(name);
+				Object value = this.delegate.getAttribute(name);
+				recordRead(name, value);
+				return value;
 			}
 
 			@Override
@@ -186,7 +385,7 @@ public class SpringSessionFixFilter extends OncePerRequestFilter {
 			@Override
 			public void invalidate() {
 				this.delegate.invalidate();
-				RequestWrapper.this.readAttributeNames.clear();
+				RequestWrapper.this.readAttributes = null;
 			}
 
 			@Override
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2016-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.joinfaces.session;
+
+import java.time.Duration;
+
+/**
+ * Callback interface for observing the work of the {@link SpringSessionFixFilter}.
+ *
+ * @author Lars Grefer
+ * @see SpringSessionFixFilter#setObserver(SpringSessionFixObserver)
+ * @see MicrometerSpringSessionFixObserver
+ */
+public interface SpringSessionFixObserver {
+
+	/**
+	 * Called when a session attribute has been re-set.
+	 *
+	 * @param attributeName  The name of the attribute.
+	 * @param attributeValue The value of the attribute.
+	 */
+	default void attributeReSet(String attributeName, Object attributeValue) {
+	}
+
+	/**
+	 * Called after the session attributes of a request have been re-set.
+	 *
+	 * @param readAttributes  The number of distinct session attributes which were read during the request.
+	 * @param reSetAttributes The number of session attributes which have been re-set.
+	 * @param duration        The time it took to check and re-set the attributes.
+	 */
+	default void attributesReSet(int readAttributes, int reSetAttributes, Duration duration) {
+	}
+}
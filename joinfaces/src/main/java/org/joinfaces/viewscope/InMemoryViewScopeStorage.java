@@ -0,0 +1,223 @@
+/*
+ * Copyright 2016-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.joinfaces.viewscope;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import lombok.Getter;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ViewScopeStorage} which keeps the view scoped beans in memory.
+ * <p>
+ * The number of stored views is bounded, both in total and per session.
+ * When a bound is exceeded, the least recently used view is evicted
+ * and the destruction callbacks of its beans are called.
+ * <p>
+ * If the total bound evicts a view of another session, only the destruction callbacks of its beans are kept.
+ * They are deferred until the next request of that session or until that session is destroyed, so they run in the
+ * context of their own session. If the callbacks of more than {@link #getMaximumSize() maximumSize} views are
+ * pending, the oldest ones are called right away, so idle sessions can't hold on to them indefinitely.
+ *
+ * @author Lars Grefer
+ */
+public class InMemoryViewScopeStorage implements ViewScopeStorage {
+
+	/**
+	 * The maximum number of views in this storage.
+	 */
+	@Getter
+	private final int maximumSize;
+
+	/**
+	 * The maximum number of views per session, or {@code 0} for no limit.
+	 */
+	@Getter
+	private final int maximumSizePerSession;
+
+	private final LinkedHashMap<ViewKey, Map<String, Object>> views = new LinkedHashMap<>(16, 0.75f, true);
+
+	/**
+	 * The ids of the views of each session, in least-recently-used order.
+	 */
+	private final Map<String, LinkedHashSet<String>> viewIdsBySession = new HashMap<>();
+
+	/**
+	 * The destruction callbacks of the evicted views of each session, which have not been called yet,
+	 * in the order the sessions were first deferred.
+	 */
+	private final LinkedHashMap<String, List<Map<String, Object>>> pendingDestructions = new LinkedHashMap<>();
+
+	private int pendingDestructionCount;
+
+	/**
+	 * Creates a new in-memory storage.
+	 *
+	 * @param maximumSize           The maximum number of views in this storage.
+	 * @param maximumSizePerSession The maximum number of views per session, or {@code 0} for no limit.
+	 */
+	public InMemoryViewScopeStorage(int maximumSize, int maximumSizePerSession) {
+		Assert.isTrue(maximumSize > 0, "maximumSize must be positive");
+		Assert.isTrue(maximumSizePerSession >= 0, "maximumSizePerSession must not be negative");
+		this.maximumSize = maximumSize;
+		this.maximumSizePerSession = maximumSizePerSession;
+	}
+
+	@Override
+	public Map<String, Object> getBeans(String sessionKey, String viewId) {
+		Map<String, Object> beans;
+		List<Map<String, Object>> evicted;
+
+		synchronized (this) {
+			evicted = removePendingDestructions(sessionKey);
+
+			LinkedHashSet<String> sessionViewIds = this.viewIdsBySession.computeIfAbsent(sessionKey, k -> new LinkedHashSet<>());
+			// move the view to the end of the LRU order of its session.
+			sessionViewIds.remove(viewId);
+			sessionViewIds.add(viewId);
+
+			ViewKey viewKey = new ViewKey(sessionKey, viewId);
+			beans = this.views.get(viewKey);
+			if (beans == null) {
+				beans = new ConcurrentHashMap<>();
+				this.views.put(viewKey, beans);
+				evict(sessionKey, sessionViewIds, evicted);
+			}
+		}
+
+		// Run the callbacks outside of the lock, since they may access other view scoped beans.
+		evicted.forEach(ViewScope::runDestructionCallbacks);
+
+		return beans;
+	}
+
+	private void evict(String sessionKey, LinkedHashSet<String> sessionViewIds, List<Map<String, Object>> evicted) {
+		if (this.maximumSizePerSession > 0) {
+			Iterator<String> iterator = sessionViewIds.iterator();
+			while (sessionViewIds.size() > this.maximumSizePerSession && iterator.hasNext()) {
+				String viewId = iterator.next();
+				iterator.remove();
+				Map<String, Object> beans = this.views.remove(new ViewKey(sessionKey, viewId));
+				if (beans != null) {
+					evicted.add(beans);
+				}
+			}
+		}
+
+		Iterator<Map.Entry<ViewKey, Map<String, Object>>> iterator = this.views.entrySet().iterator();
+		while (this.views.size() > this.maximumSize && iterator.hasNext()) {
+			Map.Entry<ViewKey, Map<String, Object>> eldest = iterator.next();
+			iterator.remove();
+			removeFromSession(eldest.getKey());
+
+			String eldestSessionKey = eldest.getKey().sessionKey();
+			if (eldestSessionKey.equals(sessionKey)) {
+				evicted.add(eldest.getValue());
+			}
+			else {
+				this.pendingDestructions.computeIfAbsent(eldestSessionKey, k -> new ArrayList<>()).add(getDestructionCallbacks(eldest.getValue()));
+				this.pendingDestructionCount++;
+			}
+		}
+
+		Iterator<List<Map<String, Object>>> pendingIterator = this.pendingDestructions.values().iterator();
+		while (this.pendingDestructionCount > this.maximumSize && pendingIterator.hasNext()) {
+			List<Map<String, Object>> pending = pendingIterator.next();
+			pendingIterator.remove();
+			this.pendingDestructionCount -= pending.size();
+			evicted.addAll(pending);
+		}
+	}
+
+	// The beans themselves are not needed anymore, only their destruction callbacks.
+	private static Map<String, Object> getDestructionCallbacks(Map<String, Object> beans) {
+		Map<String, Object> destructionCallbacks = new HashMap<>();
+		beans.forEach((name, value) -> {
+			if (value instanceof ViewScope.DestructionCallbackWrapper) {
+				destructionCallbacks.put(name, value);
+			}
+		});
+		return destructionCallbacks;
+	}
+
+	private List<Map<String, Object>> removePendingDestructions(String sessionKey) {
+		List<Map<String, Object>> pending = this.pendingDestructions.remove(sessionKey);
+		if (pending == null) {
+			return new ArrayList<>(0);
+		}
+		this.pendingDestructionCount -= pending.size();
+		return pending;
+	}
+
+	private void removeFromSession(ViewKey viewKey) {
+		Set<String> sessionViewIds = this.viewIdsBySession.get(viewKey.sessionKey());
+		if (sessionViewIds != null) {
+			sessionViewIds.remove(viewKey.viewId());
+			if (sessionViewIds.isEmpty()) {
+				this.viewIdsBySession.remove(viewKey.sessionKey());
+			}
+		}
+	}
+
+	@Override
+	@Nullable
+	public synchronized Map<String, Object> removeView(String sessionKey, String viewId) {
+		ViewKey viewKey = new ViewKey(sessionKey, viewId);
+		removeFromSession(viewKey);
+		return this.views.remove(viewKey);
+	}
+
+	@Override
+	public synchronized Collection<Map<String, Object>> removeSession(String sessionKey) {
+		List<Map<String, Object>> removed = removePendingDestructions(sessionKey);
+		Set<String> sessionViewIds = this.viewIdsBySession.remove(sessionKey);
+		if (sessionViewIds == null) {
+			return removed;
+		}
+
+		for (String viewId : sessionViewIds) {
+			Map<String, Object> beans = this.views.remove(new ViewKey(sessionKey, viewId));
+			if (beans != null) {
+				removed.add(beans);
+			}
+		}
+		return removed;
+	}
+
+	/**
+	 * Returns the current number of views in this storage.
+	 *
+	 * @return The current number of views in this storage.
+	 */
+	public synchronized int size() {
+		return this.views.size();
+	}
+
+	private record ViewKey(String sessionKey, String viewId) {
+	}
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2016-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.joinfaces.viewscope;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * {@link ViewScopeObserver} which records the lifecycle of view scoped beans as Micrometer meters.
+ *
+ * @author Lars Grefer
+ */
+public class MicrometerViewScopeObserver implements ViewScopeObserver {
+
+	static final String PREFIX = "joinfaces.view-scope";
+
+	private final MeterRegistry meterRegistry;
+
+	private final Map<String, Counter> beanCreationCounters = new ConcurrentHashMap<>();
+
+	private final DistributionSummary sessionDestructionCallbacks;
+
+	private final Timer viewCallbackTimer;
+	private final Timer sessionCallbackTimer;
+
+	private final Timer viewLifetimeTimer;
+	private final Timer sessionLifetimeTimer;
+
+	public MicrometerViewScopeObserver(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+
+		this.sessionDestructionCallbacks = DistributionSummary.builder(PREFIX + ".session.callbacks")
+				.description("Number of live view scoped beans with destruction callbacks per session")
+				.register(meterRegistry);
+
+		this.viewCallbackTimer = callbackTimer("view");
+		this.sessionCallbackTimer = callbackTimer("session");
+
+		this.viewLifetimeTimer = lifetimeTimer("view");
+		this.sessionLifetimeTimer = lifetimeTimer("session");
+	}
+
+	private Timer callbackTimer(String cause) {
+		return Timer.builder(PREFIX + ".callback")
+				.description("Duration of the destruction callbacks of view scoped beans")
+				.tag("cause", cause)
+				.register(this.meterRegistry);
+	}
+
+	private Timer lifetimeTimer(String cause) {
+		return Timer.builder(PREFIX + ".bean.lifetime")
+				.description("Lifetime of view scoped beans")
+				.tag("cause", cause)
+				.register(this.meterRegistry);
+	}
+
+	@Override
+	public void beanCreated(String beanName) {
+		this.beanCreationCounters.computeIfAbsent(beanName, name -> Counter.builder(PREFIX + ".beans.created")
+						.description("Number of created view scoped beans")
+						.tag("bean", name)
+						.register(this.meterRegistry))
+				.increment();
+	}
+
+	@Override
+	public void destructionCallbackRegistered(String beanName, int sessionDestructionCallbacks) {
+		this.sessionDestructionCallbacks.record(sessionDestructionCallbacks);
+	}
+
+	@Override
+	public void destructionCallbackCalled(String beanName, boolean sessionDestroyed, Duration beanLifetime, Duration callbackDuration) {
+		if (sessionDestroyed) {
+			this.sessionCallbackTimer.record(callbackDuration);
+			this.sessionLifetimeTimer.record(beanLifetime);
+		}
+		else {
+			this.viewCallbackTimer.record(callbackDuration);
+			this.viewLifetimeTimer.record(beanLifetime);
+		}
+	}
+}
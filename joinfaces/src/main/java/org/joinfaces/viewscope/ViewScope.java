@@ -17,11 +17,24 @@
 package org.joinfaces.viewscope;
 
 import java.io.Serializable;
+import java.lang.ref.WeakReference;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import jakarta.faces.application.Application;
 import jakarta.faces.component.UIViewRoot;
+import jakarta.faces.context.ExternalContext;
 import jakarta.faces.context.FacesContext;
 import jakarta.faces.event.PreDestroyViewMapEvent;
 import jakarta.faces.event.SystemEvent;
@@ -31,6 +44,7 @@ import jakarta.servlet.http.HttpSessionBindingListener;
 
 import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.beans.factory.ObjectFactory;
@@ -43,6 +57,14 @@ import org.springframework.web.context.request.FacesRequestAttributes;
  * Implementation of view scope.
  *
  * This class exposes the JSF {@link UIViewRoot#getViewMap() view map} as spring {@link Scope}.
+ * <p>
+ * If {@link #getMaxActiveViews() maxActiveViews} is greater than zero, the views of each session are tracked
+ * in least-recently-used order, and the destruction callbacks of the view scoped beans of the least recently
+ * used views are called as soon as the limit is exceeded.
+ * <p>
+ * If a {@link #setStorage(ViewScopeStorage) storage} is configured, the view scoped beans and their destruction
+ * callbacks are kept in that storage instead of the view map, so they are not serialized together with the view state
+ * and the session. Only a generated view id is stored in the view map in that case.
  *
  * @author Marcelo Fernandes
  * @author Lars Grefer
@@ -66,18 +88,90 @@ public class ViewScope implements Scope {
 	 */
 	public static final String DESTRUCTION_CALLBACK_NAME_PREFIX = ViewScope.class.getName() + ".DESTRUCTION_CALLBACK.";
 
+	/**
+	 * Constant identifying the {@link String} under which the generated id of a view is stored
+	 * in its {@link UIViewRoot#getViewMap() view map}, when the number of active views is bounded.
+	 */
+	public static final String VIEW_ID_KEY = ViewScope.class.getName() + ".VIEW_ID";
+
+	private static final String REQUEST_CACHE_KEY = ViewScope.class.getName() + ".REQUEST_CACHE";
+
 	@Getter(AccessLevel.PACKAGE)
 	private final PreDestroyViewMapListener preDestroyViewMapListener = new PreDestroyViewMapListener();
 
+	/**
+	 * The {@link Application} to which the {@link #preDestroyViewMapListener} has already been subscribed.
+	 */
+	@Nullable
+	private volatile Application subscribedApplication;
+
+	/**
+	 * The maximum number of views per session whose view scoped beans are kept alive.
+	 * {@code 0} means no limit.
+	 */
+	@Getter
+	private final int maxActiveViews;
+
+	/**
+	 * Optional storage for view scoped beans outside of the view map and the session.
+	 */
+	@Getter
+	@Setter
+	@Nullable
+	private ViewScopeStorage storage;
+
+	/**
+	 * Optional observer which is notified about the lifecycle of view scoped beans.
+	 */
+	@Getter
+	@Setter
+	@Nullable
+	private ViewScopeObserver observer;
+
+	public ViewScope() {
+		this(0);
+	}
+
+	/**
+	 * Creates a new view scope with a bounded number of active views per session.
+	 *
+	 * @param maxActiveViews The maximum number of views per session whose view scoped beans are kept alive,
+	 *                       or {@code 0} for no limit.
+	 */
+	public ViewScope(int maxActiveViews) {
+		Assert.isTrue(maxActiveViews >= 0, "maxActiveViews must not be negative");
+		this.maxActiveViews = maxActiveViews;
+	}
+
 	@Override
 	public Object get(String name, ObjectFactory objectFactory) {
-		Map<String, Object> viewMap = getViewRoot().getViewMap();
+		FacesContext facesContext = getFacesContext();
+		Map<String, Object> viewMap = getViewRoot(facesContext).getViewMap();
+		Map<String, Object> beans = getBeans(facesContext, viewMap);
 
-		Object bean = viewMap.get(name);
+		Object bean = beans.get(name);
+
+		if (bean != null && isBounded() && viewMap.get(DESTRUCTION_CALLBACK_NAME_PREFIX + name) instanceof DestructionCallbackWrapper wrapper && wrapper.isCallbackCalled()) {
+			// The view was evicted before, so the bean has already been destroyed.
+			viewMap.remove(DESTRUCTION_CALLBACK_NAME_PREFIX + name);
+			bean = null;
+		}
 
 		if (bean == null) {
 			bean = objectFactory.getObject();
-			viewMap.put(name, bean);
+			beans.put(name, bean);
+
+			if (this.storage != null) {
+				subscribePreDestroyViewMapListener(facesContext.getApplication());
+			}
+
+			if (this.observer != null) {
+				this.observer.beanCreated(name);
+			}
+		}
+
+		if (isBounded()) {
+			touchView(getRequestCache(facesContext), viewMap, name, null);
 		}
 
 		return bean;
@@ -86,12 +180,20 @@ public class ViewScope implements Scope {
 	@Override
 	@Nullable
 	public Object remove(String name) {
-		UIViewRoot viewRoot = getViewRoot();
-		Object bean = viewRoot.getViewMap().remove(name);
-		DestructionCallbackWrapper destructionCallbackWrapper = (DestructionCallbackWrapper) viewRoot.getViewMap().remove(DESTRUCTION_CALLBACK_NAME_PREFIX + name);
-
-		if (destructionCallbackWrapper != null) {
-			getSessionListener().unregister(destructionCallbackWrapper);
+		FacesContext facesContext = getFacesContext();
+		Map<String, Object> viewMap = getViewRoot(facesContext).getViewMap();
+		Map<String, Object> beans = getBeans(facesContext, viewMap);
+		Object bean = beans.remove(name);
+		DestructionCallbackWrapper destructionCallbackWrapper = (DestructionCallbackWrapper) beans.remove(DESTRUCTION_CALLBACK_NAME_PREFIX + name);
+
+		if (destructionCallbackWrapper != null && this.storage == null) {
+			RequestCache requestCache = getRequestCache(facesContext);
+			requestCache.getSessionListener().unregister(destructionCallbackWrapper);
+
+			if (isBounded() && viewMap.get(VIEW_ID_KEY) instanceof String viewId) {
+				requestCache.getActiveViews().unregister(viewId, destructionCallbackWrapper);
+				requestCache.saveActiveViews();
+			}
 		}
 
 		return bean;
@@ -107,10 +209,29 @@ public class ViewScope implements Scope {
 	@Override
 	public void registerDestructionCallback(String name, Runnable callback) {
 		DestructionCallbackWrapper wrapper = new DestructionCallbackWrapper(name, callback);
+		wrapper.setObserver(this.observer);
+
+		FacesContext facesContext = getFacesContext();
+		subscribePreDestroyViewMapListener(facesContext.getApplication());
+		Map<String, Object> viewMap = getViewRoot(facesContext).getViewMap();
+		getBeans(facesContext, viewMap).put(DESTRUCTION_CALLBACK_NAME_PREFIX + name, wrapper);
+
+		if (this.storage != null) {
+			// The storage takes care of the destruction callbacks.
+			return;
+		}
+
+		RequestCache requestCache = getRequestCache(facesContext);
+		SessionListener sessionListener = requestCache.getSessionListener();
+		sessionListener.register(wrapper);
+
+		if (this.observer != null) {
+			this.observer.destructionCallbackRegistered(name, sessionListener.getDestructionCallbackWrappers().size());
+		}
 
-		getFacesContext().getApplication().subscribeToEvent(PreDestroyViewMapEvent.class, this.preDestroyViewMapListener);
-		getViewRoot().getViewMap().put(DESTRUCTION_CALLBACK_NAME_PREFIX + name, wrapper);
-		getSessionListener().register(wrapper);
+		if (isBounded()) {
+			touchView(requestCache, viewMap, name, wrapper);
+		}
 	}
 
 	@Override
@@ -119,8 +240,8 @@ public class ViewScope implements Scope {
 		return new FacesRequestAttributes(getFacesContext()).resolveReference(key);
 	}
 
-	private UIViewRoot getViewRoot() {
-		UIViewRoot viewRoot = getFacesContext().getViewRoot();
+	private UIViewRoot getViewRoot(FacesContext facesContext) {
+		UIViewRoot viewRoot = facesContext.getViewRoot();
 		if (viewRoot == null) {
 			throw new IllegalStateException("No ViewRoot found");
 		}
@@ -136,36 +257,224 @@ public class ViewScope implements Scope {
 		return facesContext;
 	}
 
-	private SessionListener getSessionListener() {
-		return (SessionListener) getFacesContext()
-				.getExternalContext()
-				.getSessionMap()
-				.computeIfAbsent(SessionListener.class.getName(), k -> new SessionListener());
+	/**
+	 * Subscribes the {@link #preDestroyViewMapListener} to the given {@link Application},
+	 * unless this has already been done before.
+	 *
+	 * @param application The current application.
+	 */
+	private void subscribePreDestroyViewMapListener(Application application) {
+		if (this.subscribedApplication != application) {
+			application.subscribeToEvent(PreDestroyViewMapEvent.class, this.preDestroyViewMapListener);
+			this.subscribedApplication = application;
+		}
+	}
+
+	/**
+	 * Returns the {@link RequestCache} of the current request, which is stored
+	 * in the {@link FacesContext#getAttributes() attributes} of the given {@link FacesContext}.
+	 * <p>
+	 * A new {@link RequestCache} is created, if the session has changed since the cached one was created.
+	 *
+	 * @param facesContext The current FacesContext.
+	 * @return The RequestCache of the current request.
+	 */
+	private RequestCache getRequestCache(FacesContext facesContext) {
+		Map<Object, Object> attributes = facesContext.getAttributes();
+		ExternalContext externalContext = facesContext.getExternalContext();
+		String sessionId = externalContext.getSessionId(false);
+
+		if (attributes.get(REQUEST_CACHE_KEY) instanceof RequestCache requestCache && Objects.equals(requestCache.sessionId, sessionId)) {
+			return requestCache;
+		}
+
+		RequestCache requestCache = new RequestCache(externalContext.getSessionMap(), sessionId);
+		attributes.put(REQUEST_CACHE_KEY, requestCache);
+		return requestCache;
+	}
+
+	/**
+	 * Returns the map which holds the view scoped beans of the given view.
+	 *
+	 * @param facesContext The current FacesContext.
+	 * @param viewMap The view map of the current view.
+	 * @return The view map itself, or the map provided by the {@link #storage}, if configured.
+	 */
+	private Map<String, Object> getBeans(FacesContext facesContext, Map<String, Object> viewMap) {
+		ViewScopeStorage storage = this.storage;
+		if (storage == null) {
+			return viewMap;
+		}
+
+		String sessionKey = getRequestCache(facesContext).getStorageSessionListener(storage).getSessionKey();
+		return storage.getBeans(sessionKey, getViewId(viewMap));
+	}
+
+	private static String getViewId(Map<String, Object> viewMap) {
+		return (String) viewMap.computeIfAbsent(VIEW_ID_KEY, k -> UUID.randomUUID().toString());
+	}
+
+	/**
+	 * Whether the number of active views per session is bounded by this scope itself.
+	 * <p>
+	 * When a {@link #storage} is used, the storage is responsible for bounding the number of views.
+	 *
+	 * @return {@code true} if {@link #maxActiveViews} has to be enforced by this scope.
+	 */
+	private boolean isBounded() {
+		return this.maxActiveViews > 0 && this.storage == null;
+	}
+
+	/**
+	 * Calls the destruction callbacks of all view scoped beans contained in the given map.
+	 * <p>
+	 * This is intended for {@link ViewScopeStorage} implementations, which evict views on their own.
+	 *
+	 * @param beans The view scoped beans (and their destruction callbacks) of a view.
+	 */
+	public static void runDestructionCallbacks(Map<String, ?> beans) {
+		runDestructionCallbacks(beans, false);
+	}
+
+	private static void runDestructionCallbacks(Map<String, ?> beans, boolean sessionDestroyed) {
+		for (Object value : beans.values()) {
+			if (value instanceof DestructionCallbackWrapper wrapper) {
+				if (sessionDestroyed) {
+					wrapper.onSessionDestroy();
+				}
+				else {
+					wrapper.onViewDestroy();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Marks the given view as most recently used and calls the destruction callbacks
+	 * of the views which are evicted because of that.
+	 *
+	 * @param requestCache The RequestCache of the current request.
+	 * @param viewMap The view map of the view.
+	 * @param beanName The name of the bean which has been accessed.
+	 * @param wrapper The destruction callback which has been registered for the view, if any.
+	 */
+	private void touchView(RequestCache requestCache, Map<String, Object> viewMap, String beanName, @Nullable DestructionCallbackWrapper wrapper) {
+		String viewId = getViewId(viewMap);
+
+		ActiveViews activeViews = requestCache.getActiveViews();
+		List<DestructionCallbackWrapper> evicted = activeViews.touch(viewId, viewMap, beanName, wrapper, this.maxActiveViews);
+
+		if (activeViews.resetModified()) {
+			requestCache.saveActiveViews();
+		}
+
+		if (!evicted.isEmpty()) {
+			SessionListener sessionListener = requestCache.getSessionListener();
+			for (DestructionCallbackWrapper evictedWrapper : evicted) {
+				evictedWrapper.onViewDestroy();
+				sessionListener.unregister(evictedWrapper);
+			}
+		}
+	}
+
+	/**
+	 * Per-request cache of the session attributes used by the view scope.
+	 * <p>
+	 * This avoids repeated lookups in the session map (which may be backed by a remote session store)
+	 * when multiple view scoped beans are created during the same request.
+	 *
+	 * @author Lars Grefer
+	 */
+	private static final class RequestCache {
+
+		private final Map<String, Object> sessionMap;
+
+		@Nullable
+		private final String sessionId;
+
+		@Nullable
+		private SessionListener sessionListener;
+
+		@Nullable
+		private ActiveViews activeViews;
+
+		@Nullable
+		private StorageSessionListener storageSessionListener;
+
+		RequestCache(Map<String, Object> sessionMap, @Nullable String sessionId) {
+			this.sessionMap = sessionMap;
+			this.sessionId = sessionId;
+		}
+
+		SessionListener getSessionListener() {
+			if (this.sessionListener == null) {
+				this.sessionListener = (SessionListener) this.sessionMap.computeIfAbsent(SessionListener.class.getName(), k -> new SessionListener());
+			}
+			return this.sessionListener;
+		}
+
+		ActiveViews getActiveViews() {
+			if (this.activeViews == null) {
+				this.activeViews = (ActiveViews) this.sessionMap.computeIfAbsent(ActiveViews.class.getName(), k -> new ActiveViews());
+			}
+			return this.activeViews;
+		}
+
+		/**
+		 * Sets the {@link ActiveViews} as session attribute again, so replicating session stores
+		 * (e.g. Spring Session) persist their changes.
+		 */
+		void saveActiveViews() {
+			if (this.activeViews != null) {
+				this.sessionMap.put(ActiveViews.class.getName(), this.activeViews);
+			}
+		}
+
+		StorageSessionListener getStorageSessionListener(ViewScopeStorage storage) {
+			if (this.storageSessionListener == null) {
+				this.storageSessionListener = (StorageSessionListener) this.sessionMap.computeIfAbsent(StorageSessionListener.class.getName(), k -> new StorageSessionListener());
+				// The storage is not serialized, so it has to be re-attached after session replication.
+				this.storageSessionListener.setStorage(storage);
+			}
+			return this.storageSessionListener;
+		}
 	}
 
 	/**
 	 * This class acts as "session-destroyed" listener, which call the destruction callbacks
 	 * of all view scoped beans that have not been destructed yet.
+	 * <p>
+	 * The wrappers are kept in a concurrent identity-based set, so {@link #register(DestructionCallbackWrapper)}
+	 * and {@link #unregister(DestructionCallbackWrapper)} run in constant time.
+	 * Wrappers whose callback has already been called are pruned in batches,
+	 * once every {@link #CLEANUP_INTERVAL} registrations.
 	 *
 	 * @author Lars Grefer
 	 * @see org.springframework.web.context.request.DestructionCallbackBindingListener
 	 */
-	@Getter
 	static class SessionListener implements HttpSessionBindingListener, Serializable {
 
-		private final List<DestructionCallbackWrapper> destructionCallbackWrappers = new ArrayList<>();
+		static final int CLEANUP_INTERVAL = 64;
+
+		@Getter
+		private final Set<DestructionCallbackWrapper> destructionCallbackWrappers = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+		private final AtomicInteger registrationsSinceCleanup = new AtomicInteger();
 
 		void register(DestructionCallbackWrapper destructionCallbackWrapper) {
-			cleanup();
 			this.destructionCallbackWrappers.add(destructionCallbackWrapper);
+
+			if (this.registrationsSinceCleanup.incrementAndGet() >= CLEANUP_INTERVAL) {
+				cleanup();
+			}
 		}
 
 		void unregister(DestructionCallbackWrapper destructionCallbackWrapper) {
-			cleanup();
 			this.destructionCallbackWrappers.remove(destructionCallbackWrapper);
 		}
 
-		synchronized void cleanup() {
+		void cleanup() {
+			this.registrationsSinceCleanup.set(0);
 			this.destructionCallbackWrappers.removeIf(DestructionCallbackWrapper::isCallbackCalled);
 		}
 
@@ -180,6 +489,160 @@ public class ViewScope implements Scope {
 		}
 	}
 
+	/**
+	 * This class acts as "session-destroyed" listener, when a {@link ViewScopeStorage} is used.
+	 * <p>
+	 * It also provides the key under which the views of its session are stored in the {@link ViewScopeStorage}.
+	 * This key is generated once per session, so it is not affected by changes of the session id
+	 * (e.g. because of session fixation protection).
+	 *
+	 * @author Lars Grefer
+	 */
+	static class StorageSessionListener implements HttpSessionBindingListener, Serializable {
+
+		@Getter
+		private final String sessionKey = UUID.randomUUID().toString();
+
+		@Setter
+		@Nullable
+		private transient ViewScopeStorage storage;
+
+		@Override
+		public void valueBound(@Nullable HttpSessionBindingEvent httpSessionBindingEvent) {
+		}
+
+		@Override
+		public void valueUnbound(@Nullable HttpSessionBindingEvent httpSessionBindingEvent) {
+			if (this.storage != null) {
+				this.storage.removeSession(this.sessionKey)
+						.forEach(beans -> runDestructionCallbacks(beans, true));
+			}
+		}
+	}
+
+	/**
+	 * Tracks the views of a session, together with the destruction callbacks of their view scoped beans,
+	 * in least-recently-used order.
+	 * <p>
+	 * When a view is evicted, its view scoped beans are also removed from its view map, so they can be garbage
+	 * collected even if the view itself is kept (e.g. an abandoned browser tab). The view maps are only referenced
+	 * weakly and are not serialized, so this is not possible for views which have been touched before the session
+	 * was replicated; their beans are re-created on the next access instead.
+	 *
+	 * @author Lars Grefer
+	 * @see #getMaxActiveViews()
+	 */
+	static class ActiveViews implements Serializable {
+
+		private final LinkedHashMap<String, ActiveView> views = new LinkedHashMap<>(16, 0.75f, true);
+
+		@Nullable
+		private transient String mostRecentViewId;
+
+		private transient boolean modified;
+
+		/**
+		 * Marks the given view as most recently used and evicts the least recently used views
+		 * until at most {@code maxActiveViews} views are left.
+		 *
+		 * @param viewId The id of the view.
+		 * @param viewMap The view map of the view, if known.
+		 * @param beanName The name of the view scoped bean which has been accessed, if any.
+		 * @param wrapper The destruction callback to register for the view, if any.
+		 * @param maxActiveViews The maximum number of views to keep.
+		 * @return The destruction callbacks of the evicted views.
+		 */
+		synchronized List<DestructionCallbackWrapper> touch(String viewId, @Nullable Map<String, Object> viewMap, @Nullable String beanName,
+				@Nullable DestructionCallbackWrapper wrapper, int maxActiveViews) {
+			if (!viewId.equals(this.mostRecentViewId)) {
+				this.mostRecentViewId = viewId;
+				this.modified = true;
+			}
+
+			ActiveView activeView = this.views.computeIfAbsent(viewId, k -> new ActiveView());
+			if (viewMap != null && activeView.getViewMap() != viewMap) {
+				activeView.viewMap = new WeakReference<>(viewMap);
+			}
+			if (beanName != null && activeView.beanNames.add(beanName)) {
+				this.modified = true;
+			}
+			if (wrapper != null && activeView.wrappers.add(wrapper)) {
+				this.modified = true;
+			}
+
+			if (this.views.size() <= maxActiveViews) {
+				return Collections.emptyList();
+			}
+
+			List<DestructionCallbackWrapper> evicted = new ArrayList<>();
+			Iterator<ActiveView> iterator = this.views.values().iterator();
+			while (this.views.size() > maxActiveViews && iterator.hasNext()) {
+				ActiveView eldest = iterator.next();
+				iterator.remove();
+				eldest.clearBeans();
+				evicted.addAll(eldest.wrappers);
+			}
+			this.modified = true;
+			return evicted;
+		}
+
+		/**
+		 * Whether this has been changed since the last call, so it has to be set as session attribute again.
+		 *
+		 * @return {@code true} if this has been changed.
+		 */
+		synchronized boolean resetModified() {
+			boolean wasModified = this.modified;
+			this.modified = false;
+			return wasModified;
+		}
+
+		synchronized void unregister(String viewId, DestructionCallbackWrapper wrapper) {
+			ActiveView activeView = this.views.get(viewId);
+			if (activeView != null) {
+				activeView.wrappers.remove(wrapper);
+				activeView.beanNames.remove(wrapper.getBeanName());
+			}
+		}
+
+		synchronized void remove(String viewId) {
+			this.views.remove(viewId);
+		}
+
+		synchronized List<String> getViewIds() {
+			return new ArrayList<>(this.views.keySet());
+		}
+	}
+
+	/**
+	 * A view tracked by {@link ActiveViews}.
+	 *
+	 * @author Lars Grefer
+	 */
+	static class ActiveView implements Serializable {
+
+		private final Set<DestructionCallbackWrapper> wrappers = new HashSet<>();
+
+		private final Set<String> beanNames = new HashSet<>();
+
+		@Nullable
+		private transient WeakReference<Map<String, Object>> viewMap;
+
+		@Nullable
+		Map<String, Object> getViewMap() {
+			return this.viewMap != null ? this.viewMap.get() : null;
+		}
+
+		void clearBeans() {
+			Map<String, Object> map = getViewMap();
+			if (map != null) {
+				for (String beanName : this.beanNames) {
+					map.remove(beanName);
+				}
+			}
+		}
+	}
+
 	/**
 	 * This class acts as {@link PreDestroyViewMapEvent}-listener, which calls all destruction callbacks
 	 * which are stored in the view map to be destroyed.
@@ -192,11 +655,34 @@ public class ViewScope implements Scope {
 		@Override
 		public void processEvent(SystemEvent event) {
 			UIViewRoot root = (UIViewRoot) event.getSource();
-			root.getViewMap(false).values().stream()
+			Map<String, Object> viewMap = root.getViewMap(false);
+			RequestCache requestCache = getRequestCache(getFacesContext());
+
+			ViewScopeStorage storage = ViewScope.this.storage;
+			if (storage != null) {
+				if (viewMap.get(VIEW_ID_KEY) instanceof String viewId) {
+					String sessionKey = requestCache.getStorageSessionListener(storage).getSessionKey();
+					Map<String, Object> beans = storage.removeView(sessionKey, viewId);
+					if (beans != null) {
+						runDestructionCallbacks(beans, false);
+					}
+				}
+				return;
+			}
+
+			SessionListener sessionListener = requestCache.getSessionListener();
+			viewMap.values().stream()
 					.filter(DestructionCallbackWrapper.class::isInstance)
 					.map(DestructionCallbackWrapper.class::cast)
-					.forEach(DestructionCallbackWrapper::onViewDestroy);
-			getSessionListener().cleanup();
+					.forEach(wrapper -> {
+						wrapper.onViewDestroy();
+						sessionListener.unregister(wrapper);
+					});
+
+			if (isBounded() && viewMap.get(VIEW_ID_KEY) instanceof String viewId) {
+				requestCache.getActiveViews().remove(viewId);
+				requestCache.saveActiveViews();
+			}
 		}
 
 		@Override
@@ -208,6 +694,9 @@ public class ViewScope implements Scope {
 	/**
 	 * Wrapper around the {@link ViewScope#registerDestructionCallback(String, Runnable) destruction callback} of
 	 * view scoped beans.
+	 * <p>
+	 * The {@link ViewScopeObserver} is not serialized, so callbacks of wrappers which have been
+	 * deserialized (e.g. after session replication) are not observed.
 	 *
 	 * @author Lars Grefer
 	 * @see #registerDestructionCallback(String, Runnable)
@@ -220,6 +709,12 @@ public class ViewScope implements Scope {
 		@Nullable
 		private Runnable callback;
 
+		private final long registrationTime = System.currentTimeMillis();
+
+		@Setter
+		@Nullable
+		private transient ViewScopeObserver observer;
+
 		DestructionCallbackWrapper(String beanName, Runnable callback) {
 			Assert.hasText(beanName, "beanName must not be null or empty");
 			Assert.notNull(callback, "callback must not be null");
@@ -238,8 +733,14 @@ public class ViewScope implements Scope {
 		private synchronized void doRunCallback(boolean session) {
 			if (this.callback != null) {
 				log.debug("Calling destruction callbacks for bean {} because the {} is destroyed", getBeanName(), session ? "session" : "view map");
+				long start = System.nanoTime();
 				this.callback.run();
 				this.callback = null;
+
+				if (this.observer != null) {
+					Duration beanLifetime = Duration.ofMillis(System.currentTimeMillis() - this.registrationTime);
+					this.observer.destructionCallbackCalled(this.beanName, session, beanLifetime, Duration.ofNanos(System.nanoTime() - start));
+				}
 			}
 		}
 
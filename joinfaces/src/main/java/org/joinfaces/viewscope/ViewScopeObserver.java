@@ -0,0 +1,58 @@
+/*
+ * Copyright 2016-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.joinfaces.viewscope;
+
+import java.time.Duration;
+
+/**
+ * Callback interface for observing the lifecycle of view scoped beans.
+ *
+ * @author Lars Grefer
+ * @see ViewScope#setObserver(ViewScopeObserver)
+ * @see MicrometerViewScopeObserver
+ */
+public interface ViewScopeObserver {
+
+	/**
+	 * Called when a new view scoped bean has been created.
+	 *
+	 * @param beanName The name of the created bean.
+	 */
+	default void beanCreated(String beanName) {
+	}
+
+	/**
+	 * Called when a destruction callback has been registered.
+	 *
+	 * @param beanName The name of the bean.
+	 * @param sessionDestructionCallbacks The number of destruction callbacks which are currently registered in the session.
+	 */
+	default void destructionCallbackRegistered(String beanName, int sessionDestructionCallbacks) {
+	}
+
+	/**
+	 * Called after the destruction callback of a view scoped bean has been run.
+	 *
+	 * @param beanName         The name of the destroyed bean.
+	 * @param sessionDestroyed {@code true} if the bean was destroyed because its session was destroyed,
+	 *                         {@code false} if it was destroyed because its view was destroyed.
+	 * @param beanLifetime     The time between the registration of the destruction callback and its call.
+	 * @param callbackDuration The time it took to run the destruction callback.
+	 */
+	default void destructionCallbackCalled(String beanName, boolean sessionDestroyed, Duration beanLifetime, Duration callbackDuration) {
+	}
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2016-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.joinfaces.viewscope;
+
+import java.util.Collection;
+import java.util.Map;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Storage for view scoped beans outside of the JSF view map.
+ * <p>
+ * With server side state saving, the view map is serialized into the session together with the component tree.
+ * Keeping (large) view scoped beans in a {@link ViewScopeStorage} instead keeps them out of the serialized view state
+ * and out of session replication.
+ * <p>
+ * The maps returned by this storage contain the view scoped beans as well as their destruction callbacks.
+ * Implementations which evict views on their own have to call
+ * {@link ViewScope#runDestructionCallbacks(Map)} for the evicted views.
+ *
+ * @author Lars Grefer
+ * @see ViewScope#setStorage(ViewScopeStorage)
+ * @see InMemoryViewScopeStorage
+ */
+public interface ViewScopeStorage {
+
+	/**
+	 * Returns the mutable map holding the view scoped beans of the given view, creating it if necessary.
+	 *
+	 * @param sessionKey The key identifying the session.
+	 * @param viewId     The id of the view.
+	 * @return The beans of the given view.
+	 */
+	Map<String, Object> getBeans(String sessionKey, String viewId);
+
+	/**
+	 * Removes the given view from this storage.
+	 *
+	 * @param sessionKey The key identifying the session.
+	 * @param viewId     The id of the view.
+	 * @return The removed beans of the given view, or {@code null} if the view was not stored.
+	 */
+	@Nullable
+	Map<String, Object> removeView(String sessionKey, String viewId);
+
+	/**
+	 * Removes all views of the given session from this storage.
+	 *
+	 * @param sessionKey The key identifying the session.
+	 * @return The removed beans of all views of the given session.
+	 */
+	Collection<Map<String, Object>> removeSession(String sessionKey);
+}
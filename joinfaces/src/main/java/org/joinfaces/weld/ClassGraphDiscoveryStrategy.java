@@ -16,27 +16,54 @@
 
 package org.joinfaces.weld;
 
-import java.lang.annotation.Annotation;
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.stream.Collectors;
 
 import io.github.classgraph.ClassGraph;
 import io.github.classgraph.ClassInfo;
 import io.github.classgraph.ScanResult;
 import lombok.extern.slf4j.Slf4j;
+import org.jboss.weld.bootstrap.spi.BeanDiscoveryMode;
+import org.jboss.weld.bootstrap.spi.BeansXml;
 import org.jboss.weld.environment.deployment.WeldBeanDeploymentArchive;
 import org.jboss.weld.environment.deployment.discovery.AbstractDiscoveryStrategy;
 import org.jboss.weld.environment.deployment.discovery.BeanArchiveBuilder;
+import org.jboss.weld.environment.deployment.discovery.BeanArchiveHandler;
 import org.jboss.weld.environment.deployment.discovery.FileSystemBeanArchiveHandler;
 import org.jboss.weld.environment.deployment.discovery.jandex.JandexDiscoveryStrategy;
 import org.jboss.weld.environment.util.Reflections;
+import org.joinfaces.SharedScanResultProvider;
+import org.joinfaces.StartupReport;
 
+import org.springframework.core.SpringProperties;
+import org.springframework.lang.Nullable;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StopWatch;
 
 /**
  * ClassGraph based alternative to {@link JandexDiscoveryStrategy}.
+ * <p>
+ * The bean classes of all archives with {@link BeanDiscoveryMode#ANNOTATED annotated} bean discovery are determined
+ * in parallel before Weld processes the archives one after another.
+ * This can be disabled by setting the {@link #PARALLEL_DISCOVERY_PROPERTY} to {@code false}.
+ * <p>
+ * If a {@link WeldBeanClassIndex#PREPARED_INDEX_PATH prepared index} is present, it is used instead of a classpath scan.
+ * Otherwise, the {@link ScanResult} is only used to determine which classes have a bean defining annotation.
+ * A {@link ScanResult} of an own scan is closed right after, before Weld processes the archives.
+ * A {@link SharedScanResultProvider shared} {@link ScanResult} is only released, it stays in memory until the
+ * application context has been refreshed.
  *
  * @author Lars Grefer
  * @see JandexDiscoveryStrategy
@@ -44,12 +71,54 @@ import org.springframework.util.StopWatch;
 @Slf4j
 public class ClassGraphDiscoveryStrategy extends AbstractDiscoveryStrategy {
 
+	/**
+	 * Name of the {@link SpringProperties Spring property} which controls the parallel bean discovery.
+	 */
+	public static final String PARALLEL_DISCOVERY_PROPERTY = "joinfaces.weld.parallel-discovery";
+
+	private static final long MEGABYTE = 1024 * 1024;
+
+	@Nullable
 	private ScanResult scanResult;
 
+	@Nullable
+	private SharedScanResultProvider scanResultProvider;
+
+	@Nullable
+	private StartupReport.Step discoveryStep;
+
+	@Nullable
+	private Set<String> beanDefiningAnnotationNames;
+
+	/**
+	 * Whether a class has a bean defining annotation, by class name.
+	 * Classes unknown to the index are loaded and checked using reflection.
+	 */
+	private final Map<String, Boolean> beanClassIndex = new ConcurrentHashMap<>();
+
+	/**
+	 * The bean classes of the archives which have been processed in advance.
+	 */
+	private final Map<BeanArchiveBuilder, Set<String>> preparedBeanClasses = new ConcurrentHashMap<>();
+
+	/**
+	 * The registered handlers which hold resources until the discovery has finished.
+	 */
+	private final List<Closeable> closeableHandlers = new ArrayList<>();
+
 	public ClassGraphDiscoveryStrategy() {
 		this.registerHandler(new FileSystemBeanArchiveHandler());
 	}
 
+	@Override
+	public void registerHandler(BeanArchiveHandler handler) {
+		super.registerHandler(handler);
+
+		if (handler instanceof Closeable closeable) {
+			this.closeableHandlers.add(closeable);
+		}
+	}
+
 	@Override
 	protected void beforeDiscovery(Collection<BeanArchiveBuilder> builders) {
 		super.beforeDiscovery(builders);
@@ -58,56 +127,256 @@ public class ClassGraphDiscoveryStrategy extends AbstractDiscoveryStrategy {
 			return;
 		}
 
+		this.discoveryStep = StartupReport.start("weld.discovery")
+				.tag("archives", String.valueOf(builders.size()));
+
 		StopWatch stopWatch = new StopWatch("weld-bean-discovery");
+		long heapBefore = getUsedHeap();
+		long heapPeak = heapBefore;
+		boolean scanResultClosed = false;
 
-		stopWatch.start("prepare");
-		ClassGraph classGraph = new ClassGraph().enableAnnotationInfo();
+		stopWatch.start("prepared index");
+		Map<String, Set<String>> preparedIndex = WeldBeanClassIndex.readPreparedIndex(resourceLoader.getResource(WeldBeanClassIndex.PREPARED_INDEX_PATH));
+		stopWatch.stop();
 
-		for (BeanArchiveBuilder builder : builders) {
-			for (String clazz : builder.getClasses()) {
-				classGraph.acceptClasses(clazz);
+		if (preparedIndex != null) {
+			this.discoveryStep.tag("source", "prepared");
+			log.debug("Using prepared index with {} classes", preparedIndex.size());
+
+			stopWatch.start("extract index");
+			extractBeanClassIndex(builders, preparedIndex);
+			stopWatch.stop();
+		}
+		else {
+			this.scanResultProvider = SharedScanResultProvider.getCurrent();
+			if (this.scanResultProvider != null) {
+				this.discoveryStep.tag("source", "shared");
+				stopWatch.start("shared scan");
+				this.scanResult = this.scanResultProvider.acquire();
+				stopWatch.stop();
+			}
+			else {
+				this.discoveryStep.tag("source", "classpath");
+				stopWatch.start("prepare");
+				ClassGraph classGraph = createClassGraph(builders);
+				stopWatch.stop();
+
+				stopWatch.start("scan");
+				this.scanResult = classGraph.scan();
+				stopWatch.stop();
 			}
+
+			stopWatch.start("extract index");
+			extractBeanClassIndex(builders, this.scanResult);
+			heapPeak = Math.max(heapPeak, getUsedHeap());
+			scanResultClosed = releaseScanResult();
+			stopWatch.stop();
 		}
-		stopWatch.stop();
 
-		stopWatch.start("scan");
-		this.scanResult = classGraph.scan();
-		stopWatch.stop();
+		long heapAfter = getUsedHeap();
+		heapPeak = Math.max(heapPeak, heapAfter);
+		this.discoveryStep.tag("heap-before-mb", String.valueOf(heapBefore / MEGABYTE));
+		this.discoveryStep.tag("heap-peak-mb", String.valueOf(heapPeak / MEGABYTE));
+		if (scanResultClosed) {
+			// A shared scan result stays in memory until all its users released it, so only our own one frees memory here.
+			this.discoveryStep.tag("heap-after-mb", String.valueOf(heapAfter / MEGABYTE));
+			log.info("Heap usage during Weld bean discovery: {}MB before, {}MB peak, {}MB after closing the scan result",
+					heapBefore / MEGABYTE, heapPeak / MEGABYTE, heapAfter / MEGABYTE);
+		}
+		else {
+			log.info("Heap usage during Weld bean discovery: {}MB before, {}MB peak",
+					heapBefore / MEGABYTE, heapPeak / MEGABYTE);
+		}
+
+		List<BeanArchiveBuilder> annotatedBuilders = builders.stream()
+				.filter(ClassGraphDiscoveryStrategy::isAnnotatedDiscovery)
+				.toList();
+
+		if (annotatedBuilders.size() > 1 && !"false".equalsIgnoreCase(SpringProperties.getProperty(PARALLEL_DISCOVERY_PROPERTY))) {
+			stopWatch.start("parallel discovery");
+			prepareBeanClasses(annotatedBuilders);
+			stopWatch.stop();
+		}
 
 		log.info("Weld bean discovery took {}ms", stopWatch.getTotalTimeMillis());
 		log.debug(stopWatch.prettyPrint());
 	}
 
+	/**
+	 * Extracts whether the classes of the given archives have a bean defining annotation, so the
+	 * {@link ScanResult} can be released before Weld builds its own model of the archives.
+	 *
+	 * @param builders   The bean archives.
+	 * @param scanResult The {@link ScanResult} containing the classes of the archives.
+	 */
+	protected void extractBeanClassIndex(Collection<BeanArchiveBuilder> builders, ScanResult scanResult) {
+		for (BeanArchiveBuilder builder : builders) {
+			for (String className : builder.getClasses()) {
+				ClassInfo classInfo = scanResult.getClassInfo(className);
+				if (classInfo != null) {
+					this.beanClassIndex.computeIfAbsent(className, name -> hasBeanDefiningAnnotation(classInfo));
+				}
+			}
+		}
+	}
+
+	private void extractBeanClassIndex(Collection<BeanArchiveBuilder> builders, Map<String, Set<String>> preparedIndex) {
+		for (BeanArchiveBuilder builder : builders) {
+			for (String className : builder.getClasses()) {
+				Set<String> annotationNames = preparedIndex.get(className);
+				// Classes missing in the prepared index have no bean defining annotation.
+				this.beanClassIndex.computeIfAbsent(className, name -> annotationNames != null && containsBeanDefiningAnnotation(annotationNames));
+			}
+		}
+	}
+
+	// Returns whether the scan result was closed, rather than released to the shared provider.
+	private boolean releaseScanResult() {
+		boolean closed = false;
+		if (this.scanResult != null) {
+			if (this.scanResultProvider != null) {
+				this.scanResultProvider.release(this.scanResult);
+			}
+			else {
+				this.scanResult.close();
+				closed = true;
+			}
+			this.scanResult = null;
+		}
+		return closed;
+	}
+
+	private static long getUsedHeap() {
+		return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+	}
+
+	/**
+	 * Creates the {@link ClassGraph} used to scan the classes of the given archives.
+	 * <p>
+	 * Instead of accepting every single class, which ClassGraph would have to match against every classpath
+	 * entry, the packages of the classes are accepted non-recursively.
+	 * Only runtime visible annotations are scanned, since bean defining annotations have to be retained at runtime.
+	 *
+	 * @param builders The bean archives to be scanned.
+	 * @return The configured {@link ClassGraph}.
+	 */
+	protected ClassGraph createClassGraph(Collection<BeanArchiveBuilder> builders) {
+		ClassGraph classGraph = new ClassGraph()
+				.enableAnnotationInfo()
+				.disableRuntimeInvisibleAnnotations();
+
+		Set<String> packageNames = new HashSet<>();
+
+		for (BeanArchiveBuilder builder : builders) {
+			for (String className : builder.getClasses()) {
+				int lastDot = className.lastIndexOf('.');
+				if (lastDot > 0) {
+					packageNames.add(className.substring(0, lastDot));
+				}
+				else {
+					classGraph.acceptClasses(className);
+				}
+			}
+		}
+
+		log.debug("Scanning {} packages of {} bean archives", packageNames.size(), builders.size());
+
+		return classGraph.acceptPackagesNonRecursive(packageNames.toArray(new String[0]));
+	}
+
+	private static boolean isAnnotatedDiscovery(BeanArchiveBuilder builder) {
+		BeansXml beansXml = builder.getBeansXml();
+		return beansXml == null || beansXml.getBeanDiscoveryMode() == BeanDiscoveryMode.ANNOTATED;
+	}
+
+	private void prepareBeanClasses(List<BeanArchiveBuilder> builders) {
+		// The fallback uses Weld's ResourceLoader, which may depend on the context class loader.
+		ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		ForkJoinPool forkJoinPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors(), pool -> {
+			ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+			thread.setContextClassLoader(contextClassLoader);
+			return thread;
+		}, null, false);
+
+		try {
+			forkJoinPool.submit(() -> builders.parallelStream()
+					.forEach(builder -> this.preparedBeanClasses.put(builder, findBeanClasses(builder.getClasses(), true)))
+			).join();
+		}
+		finally {
+			forkJoinPool.shutdown();
+		}
+	}
+
 	@Override
 	protected WeldBeanDeploymentArchive processAnnotatedDiscovery(BeanArchiveBuilder builder) {
 
+		Set<String> beanClasses = this.preparedBeanClasses.remove(builder);
+		if (beanClasses == null) {
+			beanClasses = findBeanClasses(builder.getClasses(), false);
+		}
+
 		Iterator<String> classIterator = builder.getClassIterator();
 
 		while (classIterator != null && classIterator.hasNext()) {
-			String className = classIterator.next();
-			ClassInfo classInfo = this.scanResult.getClassInfo(className);
+			if (!beanClasses.contains(classIterator.next())) {
+				classIterator.remove();
+			}
+		}
 
-			if (classInfo != null) {
-				if (!this.hasBeanDefiningAnnotation(classInfo)) {
-					classIterator.remove();
-				}
+		return builder.build();
+	}
+
+	/**
+	 * Determines which of the given classes have a bean defining annotation.
+	 *
+	 * @param classNames The names of the classes to check.
+	 * @param parallel   Whether the classes unknown to ClassGraph should be loaded in parallel.
+	 * @return The names of the bean classes.
+	 */
+	private Set<String> findBeanClasses(Collection<String> classNames, boolean parallel) {
+		Set<String> beanClasses = new HashSet<>();
+		List<String> unknownClasses = new ArrayList<>();
+
+		for (String className : classNames) {
+			Boolean beanClass = this.beanClassIndex.get(className);
+
+			if (beanClass == null) {
+				unknownClasses.add(className);
 			}
-			else {
-				log.debug("No classInfo for {}", className);
-				Class<?> clazz = Reflections.loadClass(resourceLoader, className);
-				if (clazz == null || !Reflections.hasBeanDefiningAnnotation(clazz, initialBeanDefiningAnnotations)) {
-					classIterator.remove();
-				}
+			else if (beanClass) {
+				beanClasses.add(className);
 			}
 		}
 
-		return builder.build();
+		if (!unknownClasses.isEmpty()) {
+			log.debug("No classInfo for {} classes, loading them", unknownClasses.size());
+
+			// Load all classes unknown to ClassGraph in one batch.
+			List<String> loadedBeanClasses = (parallel ? unknownClasses.parallelStream() : unknownClasses.stream())
+					.filter(this::isLoadableBeanClass)
+					.toList();
+			beanClasses.addAll(loadedBeanClasses);
+		}
+
+		return beanClasses;
+	}
+
+	private boolean isLoadableBeanClass(String className) {
+		Class<?> clazz = Reflections.loadClass(resourceLoader, className);
+		return clazz != null && Reflections.hasBeanDefiningAnnotation(clazz, initialBeanDefiningAnnotations);
 	}
 
 	protected boolean hasBeanDefiningAnnotation(ClassInfo classInfo) {
+		// Like ClassInfo.hasAnnotation, this includes meta-annotations such as @NormalScope and @Stereotype.
+		return containsBeanDefiningAnnotation(classInfo.getAnnotations().getNames());
+	}
 
-		for (Class<? extends Annotation> initialBeanDefiningAnnotation : initialBeanDefiningAnnotations) {
-			if (classInfo.hasAnnotation(initialBeanDefiningAnnotation)) {
+	private boolean containsBeanDefiningAnnotation(Collection<String> annotationNames) {
+		Set<String> beanDefiningAnnotationNames = getBeanDefiningAnnotationNames();
+
+		for (String annotationName : annotationNames) {
+			if (beanDefiningAnnotationNames.contains(annotationName)) {
 				return true;
 			}
 		}
@@ -115,12 +384,39 @@ public class ClassGraphDiscoveryStrategy extends AbstractDiscoveryStrategy {
 		return false;
 	}
 
+	private Set<String> getBeanDefiningAnnotationNames() {
+		Set<String> annotationNames = this.beanDefiningAnnotationNames;
+
+		if (annotationNames == null) {
+			annotationNames = initialBeanDefiningAnnotations.stream()
+					.map(Class::getName)
+					.collect(Collectors.toUnmodifiableSet());
+			this.beanDefiningAnnotationNames = annotationNames;
+		}
+
+		return annotationNames;
+	}
+
 	@Override
 	protected void afterDiscovery(Set<WeldBeanDeploymentArchive> archives) {
 		super.afterDiscovery(archives);
 
-		if (this.scanResult != null) {
-			this.scanResult.close();
+		this.preparedBeanClasses.clear();
+		this.beanClassIndex.clear();
+		releaseScanResult();
+
+		for (Closeable handler : this.closeableHandlers) {
+			try {
+				handler.close();
+			}
+			catch (IOException e) {
+				log.warn("Failed to close {}", handler, e);
+			}
+		}
+
+		if (this.discoveryStep != null) {
+			this.discoveryStep.end();
+			this.discoveryStep = null;
 		}
 	}
 
@@ -1,5 +1,5 @@
 /*
- * Copyright 2016-2023 the original author or authors.
+ * Copyright 2016-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,10 +16,19 @@
 
 package org.joinfaces.weld;
 
+import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
 
 import lombok.extern.slf4j.Slf4j;
 import org.jboss.weld.environment.deployment.discovery.BeanArchiveBuilder;
@@ -28,51 +37,219 @@ import org.jboss.weld.environment.deployment.discovery.FileSystemBeanArchiveHand
 import org.jboss.weld.environment.logging.CommonLogger;
 import org.jboss.weld.environment.util.URLUtils;
 
+import org.springframework.lang.Nullable;
+
 /**
  * Special {@link BeanArchiveHandler} which can handle the new "jar:nested:" urls
  * introduced with Spring Boot 3.2.
+ * <p>
+ * Each outer jar is opened only once per handler. Its entries are indexed in a single pass and the classes of
+ * the nested jars are read from the already opened jar when they are referenced for the first time.
+ * The outer jars are kept open until the handler is {@link #close() closed}, which {@link ClassGraphDiscoveryStrategy}
+ * does once the bean discovery has finished.
  *
  * @author Lars Grefer
  */
 @Slf4j
-public class NestedJarArchiveHandler extends FileSystemBeanArchiveHandler {
+public class NestedJarArchiveHandler extends FileSystemBeanArchiveHandler implements Closeable {
 
-	private static final Pattern nestedJarUrlPattern = Pattern.compile("jar:nested:(.+)/!(.+)!/(.+)");
+	private static final String NESTED_JAR_URL_PREFIX = "jar:nested:";
+	private static final String OUTER_JAR_SEPARATOR = "/!";
+	private static final String INNER_JAR_SEPARATOR = "!/";
 
 	// https://github.com/joinfaces/joinfaces/issues/2673
 	private static final String BOOT_INF_BEANS_XML = "/!BOOT-INF/classes/!/META-INF/beans.xml";
 	private static final String BOOT_INF_INNER_JAR_WITHOUT_TRAILING_SLASH = "BOOT-INF/classes";
 
+	private static final String[] CLASSES_DIRECTORIES = {"BOOT-INF/classes", "WEB-INF/classes"};
+
+	private final Map<String, OuterJarIndex> outerJarIndexes = new ConcurrentHashMap<>();
+
 	@Override
 	public BeanArchiveBuilder handle(String beanArchiveReference) {
 
-		Matcher nestedJarUrlMatcher = nestedJarUrlPattern.matcher(beanArchiveReference);
-		if (nestedJarUrlMatcher.matches()) {
+		if (!beanArchiveReference.startsWith(NESTED_JAR_URL_PREFIX)) {
+			return null;
+		}
+
+		int outerJarEnd = beanArchiveReference.indexOf(OUTER_JAR_SEPARATOR, NESTED_JAR_URL_PREFIX.length() + 1);
+		if (outerJarEnd < 0) {
+			return null;
+		}
+
+		int innerJarStart = outerJarEnd + OUTER_JAR_SEPARATOR.length();
+		int innerJarEnd = beanArchiveReference.indexOf(INNER_JAR_SEPARATOR, innerJarStart + 1);
+		if (innerJarEnd < 0 || innerJarEnd + INNER_JAR_SEPARATOR.length() >= beanArchiveReference.length()) {
+			return null;
+		}
+
+		String outerJar = beanArchiveReference.substring(NESTED_JAR_URL_PREFIX.length(), outerJarEnd);
+		String innerJar = beanArchiveReference.substring(innerJarStart, innerJarEnd);
+
+		// https://github.com/joinfaces/joinfaces/issues/2673
+		if (beanArchiveReference.endsWith(BOOT_INF_BEANS_XML)) {
+			innerJar = BOOT_INF_INNER_JAR_WITHOUT_TRAILING_SLASH;
+		}
 
-			String outerJar = nestedJarUrlMatcher.group(1);
-			String innerJar = nestedJarUrlMatcher.group(2);
+		File file = new File(outerJar);
+		String path = outerJar + URLUtils.JAR_URL_SEPARATOR + innerJar;
 
-			// https://github.com/joinfaces/joinfaces/issues/2673
-			if (beanArchiveReference.endsWith(BOOT_INF_BEANS_XML)) {
-				innerJar = BOOT_INF_INNER_JAR_WITHOUT_TRAILING_SLASH;
+		BeanArchiveBuilder builder = new BeanArchiveBuilder();
+
+		try {
+			List<String> classNames = getOuterJarIndex(file).getClassNames(innerJar);
+
+			if (classNames != null) {
+				classNames.forEach(builder::addClass);
+			}
+			else {
+				log.debug("{} is not indexed, falling back to the default handling", path);
+				handleNestedFile(path, file, builder);
 			}
+		}
+		catch (IOException e) {
+			CommonLogger.LOG.cannotHandleFilePath(file, path, e);
+			return null;
+		}
+
+		return builder;
+	}
+
+	private OuterJarIndex getOuterJarIndex(File file) throws IOException {
+		OuterJarIndex index = this.outerJarIndexes.get(file.getPath());
+
+		if (index == null) {
+			index = new OuterJarIndex(file);
+			this.outerJarIndexes.put(file.getPath(), index);
+		}
 
-			File file = new File(outerJar);
-			String path = outerJar + URLUtils.JAR_URL_SEPARATOR + innerJar;
+		return index;
+	}
 
-			BeanArchiveBuilder builder = new BeanArchiveBuilder();
+	/**
+	 * Closes all outer jars opened by this handler.
+	 *
+	 * @throws IOException if an outer jar could not be closed.
+	 */
+	@Override
+	public void close() throws IOException {
+		IOException exception = null;
 
+		for (OuterJarIndex index : this.outerJarIndexes.values()) {
 			try {
-				handleNestedFile(path, file, builder);
+				index.close();
 			}
 			catch (IOException e) {
-				CommonLogger.LOG.cannotHandleFilePath(file, path, e);
+				if (exception == null) {
+					exception = e;
+				}
+				else {
+					exception.addSuppressed(e);
+				}
+			}
+		}
+
+		this.outerJarIndexes.clear();
+
+		if (exception != null) {
+			throw exception;
+		}
+	}
+
+	@Nullable
+	static String toClassName(String entryName) {
+		if (!entryName.endsWith(".class") || entryName.startsWith("META-INF/") || entryName.endsWith("module-info.class")) {
+			return null;
+		}
+
+		return entryName.substring(0, entryName.length() - ".class".length()).replace('/', '.');
+	}
+
+	/**
+	 * Index of a Spring Boot fat jar.
+	 *
+	 * @author Lars Grefer
+	 */
+	static class OuterJarIndex implements Closeable {
+
+		private final ZipFile zipFile;
+
+		private final Map<String, ZipEntry> nestedJars = new HashMap<>();
+
+		private final Map<String, List<String>> classNames = new ConcurrentHashMap<>();
+
+		OuterJarIndex(File file) throws IOException {
+			this.zipFile = new ZipFile(file);
+
+			Map<String, List<String>> directoryClassNames = new HashMap<>();
+
+			Enumeration<? extends ZipEntry> entries = this.zipFile.entries();
+			while (entries.hasMoreElements()) {
+				ZipEntry entry = entries.nextElement();
+				String name = entry.getName();
+
+				if (name.endsWith(".jar")) {
+					this.nestedJars.put(name, entry);
+					continue;
+				}
+
+				for (String classesDirectory : CLASSES_DIRECTORIES) {
+					if (name.startsWith(classesDirectory + "/")) {
+						String className = toClassName(name.substring(classesDirectory.length() + 1));
+						if (className != null) {
+							directoryClassNames.computeIfAbsent(classesDirectory, dir -> new ArrayList<>()).add(className);
+						}
+					}
+				}
+			}
+
+			for (String classesDirectory : CLASSES_DIRECTORIES) {
+				this.classNames.put(classesDirectory, Collections.unmodifiableList(directoryClassNames.getOrDefault(classesDirectory, List.of())));
+			}
+
+			log.debug("Indexed {} with {} nested jars", file, this.nestedJars.size());
+		}
+
+		/**
+		 * Returns the names of the classes in the given nested jar or classes directory.
+		 *
+		 * @param innerPath The path of the nested jar or classes directory within the outer jar.
+		 * @return The class names or {@code null}, if the inner path is not part of the index.
+		 * @throws IOException if the nested jar could not be read.
+		 */
+		@Nullable
+		synchronized List<String> getClassNames(String innerPath) throws IOException {
+			String key = innerPath.endsWith("/") ? innerPath.substring(0, innerPath.length() - 1) : innerPath;
+
+			List<String> result = this.classNames.get(key);
+			if (result != null) {
+				return result;
+			}
+
+			ZipEntry nestedJar = this.nestedJars.get(key);
+			if (nestedJar == null) {
 				return null;
 			}
 
-			return builder;
+			List<String> nestedClassNames = new ArrayList<>();
+			try (ZipInputStream zipInputStream = new ZipInputStream(this.zipFile.getInputStream(nestedJar))) {
+				ZipEntry entry;
+				while ((entry = zipInputStream.getNextEntry()) != null) {
+					String className = toClassName(entry.getName());
+					if (className != null) {
+						nestedClassNames.add(className);
+					}
+				}
+			}
+
+			result = Collections.unmodifiableList(nestedClassNames);
+			this.classNames.put(key, result);
+			return result;
 		}
 
-		return null;
+		@Override
+		public synchronized void close() throws IOException {
+			this.zipFile.close();
+		}
 	}
 }
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2016-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.joinfaces.weld;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import io.github.classgraph.AnnotationInfo;
+import io.github.classgraph.ClassInfo;
+import io.github.classgraph.ScanResult;
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.aot.generate.GenerationContext;
+import org.springframework.lang.Nullable;
+import org.springframework.util.StringUtils;
+
+/**
+ * Build-time index of the classes which might be CDI bean classes, used by {@link ClassGraphDiscoveryStrategy}.
+ * <p>
+ * The index maps the names of all classes with a potentially bean defining annotation to the names of these
+ * annotations. A class is listed if it is annotated with a scope, a stereotype, {@code @Interceptor} or
+ * {@code @Decorator}. For scopes and stereotypes, the qualifying meta-annotation ({@code @NormalScope},
+ * {@code @Scope} or {@code @Stereotype}) is listed as well, because Weld's bean defining annotations contain
+ * these instead of the concrete annotations. The actual check against Weld's bean defining annotations is done
+ * at runtime.
+ *
+ * @author Lars Grefer
+ */
+@Slf4j
+@UtilityClass
+public class WeldBeanClassIndex {
+
+	/**
+	 * Resource path of the prepared index.
+	 */
+	public static final String PREPARED_INDEX_PATH = "META-INF/joinfaces/weld-bean-classes.list";
+
+	private static final Set<String> META_ANNOTATIONS = Set.of(
+			"jakarta.enterprise.context.NormalScope",
+			"jakarta.inject.Scope",
+			"jakarta.enterprise.inject.Stereotype"
+	);
+
+	private static final Set<String> ANNOTATIONS = Set.of(
+			"jakarta.enterprise.context.Dependent",
+			"jakarta.interceptor.Interceptor",
+			"jakarta.decorator.Decorator"
+	);
+
+	/**
+	 * Builds the index from the given {@link ScanResult}.
+	 *
+	 * @param scanResult A {@link ScanResult} with class and annotation info.
+	 * @return The names of the potentially bean defining annotations by class name.
+	 */
+	public Map<String, Set<String>> buildIndex(ScanResult scanResult) {
+		Map<String, Set<String>> index = new TreeMap<>();
+
+		for (ClassInfo classInfo : scanResult.getAllStandardClasses()) {
+			Set<String> annotationNames = new TreeSet<>();
+
+			for (AnnotationInfo annotationInfo : classInfo.getAnnotationInfo()) {
+				addPotentiallyBeanDefining(annotationInfo, annotationNames);
+			}
+
+			if (!annotationNames.isEmpty()) {
+				index.put(classInfo.getName(), annotationNames);
+			}
+		}
+
+		return index;
+	}
+
+	private void addPotentiallyBeanDefining(AnnotationInfo annotationInfo, Set<String> annotationNames) {
+		if (ANNOTATIONS.contains(annotationInfo.getName())) {
+			annotationNames.add(annotationInfo.getName());
+			return;
+		}
+
+		ClassInfo annotationClassInfo = annotationInfo.getClassInfo();
+		if (annotationClassInfo == null) {
+			return;
+		}
+
+		for (AnnotationInfo metaAnnotationInfo : annotationClassInfo.getAnnotationInfo()) {
+			if (META_ANNOTATIONS.contains(metaAnnotationInfo.getName())) {
+				annotationNames.add(annotationInfo.getName());
+				annotationNames.add(metaAnnotationInfo.getName());
+			}
+		}
+	}
+
+	public void writePreparedIndex(GenerationContext generationContext, Map<String, Set<String>> index) {
+		generationContext.getRuntimeHints().resources().registerPattern(PREPARED_INDEX_PATH);
+
+		StringBuilder sb = new StringBuilder();
+		index.forEach((className, annotationNames) -> sb.append(className)
+				.append('=')
+				.append(String.join(",", annotationNames))
+				.append('\n'));
+
+		byte[] content = sb.toString().getBytes(StandardCharsets.UTF_8);
+		generationContext.getGeneratedFiles().addResourceFile(PREPARED_INDEX_PATH, () -> new ByteArrayInputStream(content));
+	}
+
+	/**
+	 * Reads a prepared index.
+	 *
+	 * @param resource The {@link URL} of the prepared index.
+	 * @return The prepared index or {@code null}, if the index is not present or could not be read.
+	 */
+	@Nullable
+	public Map<String, Set<String>> readPreparedIndex(@Nullable URL resource) {
+		if (resource == null) {
+			return null;
+		}
+
+		Map<String, Set<String>> index = new HashMap<>();
+
+		try (InputStream inputStream = resource.openStream();
+			BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+
+			String line;
+			while ((line = reader.readLine()) != null) {
+				int separator = line.indexOf('=');
+				if (separator <= 0) {
+					continue;
+				}
+
+				Set<String> annotationNames = StringUtils.commaDelimitedListToSet(line.substring(separator + 1));
+				index.put(line.substring(0, separator), Collections.unmodifiableSet(annotationNames));
+			}
+		}
+		catch (IOException e) {
+			log.warn("Failed to read {}", resource, e);
+			return null;
+		}
+
+		return index;
+	}
+}
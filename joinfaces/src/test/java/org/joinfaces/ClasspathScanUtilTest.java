@@ -17,8 +17,15 @@
 package org.joinfaces;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.StringReader;
 import java.lang.annotation.Annotation;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -65,6 +72,20 @@ class ClasspathScanUtilTest {
 		assertThat(classes).contains(this.getClass());
 	}
 
+	@Test
+	void getClasses_parallel() {
+		List<String> classNames = new ArrayList<>();
+		for (int i = 0; i < ClasspathScanUtil.PARALLEL_LOADING_THRESHOLD; i++) {
+			classNames.add(i % 2 == 0 ? String.class.getName() : "foo.Bar" + i);
+		}
+		classNames.add(Test.class.getName());
+		classNames.add(ClasspathScanUtil.class.getName());
+
+		Set<Class<?>> classes = ClasspathScanUtil.getClasses(classNames.stream(), getClass().getClassLoader(), true);
+
+		assertThat(classes).containsExactly(String.class, Test.class, ClasspathScanUtil.class);
+	}
+
 	@Test
 	void readClassSet() {
 		Optional<Set<Class<?>>> classes = ClasspathScanUtil.readClassSet("META-INF/joinfaces/test-list.classes", getClass().getClassLoader());
@@ -95,6 +116,15 @@ class ClasspathScanUtilTest {
 		assertThat(classes.get()).containsKeys(Autowired.class, Qualifier.class);
 	}
 
+	@Test
+	void readLazyClassMap() {
+		Optional<Map<Class<? extends Annotation>, Set<Class<?>>>> classes = ClasspathScanUtil.readLazyClassMap("META-INF/joinfaces/test-map.classes", getClass().getClassLoader());
+
+		assertThat(classes).isPresent();
+		assertThat(classes.get()).containsKeys(Autowired.class, Qualifier.class);
+		assertThat(classes.get().get(Autowired.class)).isInstanceOf(LazyClassSet.class);
+	}
+
 	@Test
 	void readAnnotationClassMap() {
 
@@ -116,4 +146,51 @@ class ClasspathScanUtilTest {
 		assertThat(map.get(BeforeEach.class)).isEmpty();
 		assertThat(map.get(BeforeAll.class)).containsExactly(ClasspathScanUtil.class);
 	}
+
+	@Test
+	void binaryClassSet() throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ClasspathScanUtil.writeClassSet(out, List.of(Test.class.getName(), "non.loadable.Class", ClasspathScanUtil.class.getName()));
+
+		Set<Class<?>> set = ClasspathScanUtil.readClasses(
+				new ByteArrayInputStream(out.toByteArray()), getClass().getClassLoader(),
+				ClasspathScanUtil::readClassSet, ClasspathScanUtil::readBinaryClassSet
+		);
+
+		assertThat(set).containsExactlyInAnyOrder(Test.class, ClasspathScanUtil.class);
+	}
+
+	@Test
+	void binaryClassMap() throws IOException {
+		Map<String, List<String>> classNameMap = new LinkedHashMap<>();
+		classNameMap.put(Test.class.getName(), List.of(ClasspathScanUtil.class.getName(), ClasspathScanUtilTest.class.getName()));
+		classNameMap.put("non.loadable.Annotation", List.of(ClasspathScanUtil.class.getName()));
+		classNameMap.put(BeforeEach.class.getName(), List.of());
+		classNameMap.put(BeforeAll.class.getName(), List.of("non.loadable.Class", ClasspathScanUtil.class.getName()));
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ClasspathScanUtil.writeClassMap(out, classNameMap);
+
+		Map<Class<? extends Annotation>, Set<Class<?>>> map = ClasspathScanUtil.readClasses(
+				new ByteArrayInputStream(out.toByteArray()), getClass().getClassLoader(),
+				ClasspathScanUtil::readClassMap, ClasspathScanUtil::readBinaryClassMap
+		);
+
+		assertThat(map).hasSize(3);
+		assertThat(map.get(Test.class)).containsExactlyInAnyOrder(ClasspathScanUtil.class, ClasspathScanUtilTest.class);
+		assertThat(map.get(BeforeEach.class)).isEmpty();
+		assertThat(map.get(BeforeAll.class)).containsExactly(ClasspathScanUtil.class);
+	}
+
+	@Test
+	void textFallback() throws IOException {
+		byte[] text = (Test.class.getName() + "\n").getBytes(StandardCharsets.UTF_8);
+
+		Set<Class<?>> set = ClasspathScanUtil.readClasses(
+				new ByteArrayInputStream(text), getClass().getClassLoader(),
+				ClasspathScanUtil::readClassSet, ClasspathScanUtil::readBinaryClassSet
+		);
+
+		assertThat(set).containsExactly(Test.class);
+	}
 }
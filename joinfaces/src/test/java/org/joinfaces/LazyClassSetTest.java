@@ -0,0 +1,52 @@
+/*
+ * Copyright 2016-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.joinfaces;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LazyClassSetTest {
+
+	private final ClassLoader classLoader = getClass().getClassLoader();
+
+	@Test
+	void iteration() {
+		Set<Class<?>> classes = new LazyClassSet(new String[]{"foo.Bar", String.class.getName(), Test.class.getName(), String.class.getName()}, this.classLoader);
+
+		assertThat(classes).containsExactly(String.class, Test.class);
+		assertThat(classes).hasSize(2);
+	}
+
+	@Test
+	void contains() {
+		Set<Class<?>> classes = new LazyClassSet(new String[]{"foo.Bar", String.class.getName()}, this.classLoader);
+
+		assertThat(classes.contains(String.class)).isTrue();
+		assertThat(classes.contains(Test.class)).isFalse();
+		assertThat(classes.contains("foo.Bar")).isFalse();
+	}
+
+	@Test
+	void empty() {
+		assertThat(new LazyClassSet(new String[0], this.classLoader)).isEmpty();
+		assertThat(new LazyClassSet(new String[]{"foo.Bar"}, this.classLoader)).isEmpty();
+		assertThat(new LazyClassSet(new String[]{"foo.Bar", String.class.getName()}, this.classLoader)).isNotEmpty();
+	}
+}
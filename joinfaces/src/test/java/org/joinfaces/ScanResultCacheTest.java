@@ -0,0 +1,98 @@
+/*
+ * Copyright 2016-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.joinfaces;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScanResultCacheTest {
+
+	@TempDir
+	Path cacheDirectory;
+
+	private final ClassLoader classLoader = getClass().getClassLoader();
+
+	@Test
+	void classSet() {
+		assertThat(ScanResultCache.readClassSet(this.cacheDirectory, "test", "config", this.classLoader, false)).isEmpty();
+
+		ScanResultCache.writeClassSet(this.cacheDirectory, "test", "config", Set.of(String.class, Test.class), this.classLoader);
+
+		assertThat(ScanResultCache.readClassSet(this.cacheDirectory, "test", "config", this.classLoader, false))
+				.hasValueSatisfying(classes -> assertThat(classes).containsExactlyInAnyOrder(String.class, Test.class));
+	}
+
+	@Test
+	void changedConfiguration() {
+		ScanResultCache.writeClassSet(this.cacheDirectory, "test", "config", Set.of(String.class), this.classLoader);
+
+		assertThat(ScanResultCache.readClassSet(this.cacheDirectory, "test", "other-config", this.classLoader, false)).isEmpty();
+	}
+
+	@Test
+	void classMap() {
+		ScanResultCache.writeClassMap(this.cacheDirectory, "test", "config", Map.of(Test.class, Set.of(ScanResultCacheTest.class)), this.classLoader);
+
+		Map<Class<? extends Annotation>, Set<Class<?>>> classMap = ScanResultCache.readClassMap(this.cacheDirectory, "test", "config", this.classLoader, true).orElseThrow();
+
+		assertThat(classMap).containsOnlyKeys(Test.class);
+		assertThat(classMap.get(Test.class)).containsExactly(ScanResultCacheTest.class);
+	}
+
+	@Test
+	void disabled() {
+		ScanResultCache.writeClassSet(null, "test", "config", Set.of(String.class), this.classLoader);
+
+		assertThat(ScanResultCache.readClassSet(null, "test", "config", this.classLoader, false)).isEmpty();
+		assertThat(this.cacheDirectory).isEmptyDirectory();
+	}
+
+	@Test
+	void fingerprint() {
+		String fingerprint = ScanResultCache.fingerprint(this.classLoader);
+
+		assertThat(fingerprint).hasSize(64);
+		assertThat(ScanResultCache.fingerprint(this.classLoader)).isEqualTo(fingerprint);
+	}
+
+	@Test
+	void summarize(@TempDir Path directory) throws IOException {
+		Path file = Files.createFile(directory.resolve("Foo.class"));
+		Files.setLastModifiedTime(file, FileTime.fromMillis(1_000_000));
+
+		String summary = ScanResultCache.summarize(directory).toString();
+		assertThat(ScanResultCache.summarize(directory).toString()).isEqualTo(summary);
+
+		// Rewritten in place, the directory itself doesn't change.
+		Files.setLastModifiedTime(file, FileTime.fromMillis(2_000_000));
+		assertThat(ScanResultCache.summarize(directory).toString()).isNotEqualTo(summary);
+
+		summary = ScanResultCache.summarize(directory).toString();
+		Files.createFile(directory.resolve("Bar.class"));
+		assertThat(ScanResultCache.summarize(directory).toString()).isNotEqualTo(summary);
+	}
+}
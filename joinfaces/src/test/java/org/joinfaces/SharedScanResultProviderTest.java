@@ -0,0 +1,107 @@
+/*
+ * Copyright 2016-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.joinfaces;
+
+import io.github.classgraph.ClassGraph;
+import io.github.classgraph.ScanResult;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class SharedScanResultProviderTest {
+
+	private int scans;
+
+	private final SharedScanResultProvider scanResultProvider = new SharedScanResultProvider() {
+		@Override
+		protected ScanResult scan() {
+			SharedScanResultProviderTest.this.scans++;
+			return new ClassGraph()
+					.acceptPackages(SharedScanResultProviderTest.class.getPackageName())
+					.scan();
+		}
+	};
+
+	@Test
+	void acquire_scansOnce() {
+		ScanResult first = this.scanResultProvider.acquire();
+		ScanResult second = this.scanResultProvider.acquire();
+
+		assertThat(second).isSameAs(first);
+		assertThat(this.scans).isEqualTo(1);
+
+		this.scanResultProvider.release(first);
+		this.scanResultProvider.release(second);
+		this.scanResultProvider.close();
+	}
+
+	@Test
+	void close_waitsForRelease() {
+		ScanResult scanResult = this.scanResultProvider.acquire();
+
+		this.scanResultProvider.close();
+		assertThat(scanResult.getAllClasses()).isNotEmpty();
+
+		this.scanResultProvider.release(scanResult);
+		assertThatIllegalArgumentException().isThrownBy(scanResult::getAllClasses);
+	}
+
+	@Test
+	void acquire_afterClose() {
+		this.scanResultProvider.close();
+
+		ScanResult scanResult = this.scanResultProvider.acquire();
+		assertThat(scanResult.getAllClasses()).isNotEmpty();
+
+		this.scanResultProvider.release(scanResult);
+		assertThatIllegalArgumentException().isThrownBy(scanResult::getAllClasses);
+
+		assertThat(this.scanResultProvider.acquire()).isNotSameAs(scanResult);
+		assertThat(this.scans).isEqualTo(2);
+	}
+
+	@Test
+	void startAsyncScan() {
+		this.scanResultProvider.startAsyncScan();
+		this.scanResultProvider.startAsyncScan();
+
+		ScanResult scanResult = this.scanResultProvider.acquire();
+		assertThat(scanResult.getAllClasses()).isNotEmpty();
+		assertThat(this.scans).isEqualTo(1);
+
+		this.scanResultProvider.release(scanResult);
+		this.scanResultProvider.close();
+	}
+
+	@Test
+	void bind() {
+		assertThat(SharedScanResultProvider.getCurrent()).isNull();
+
+		try (SharedScanResultProvider.Binding binding = SharedScanResultProvider.bind(this.scanResultProvider)) {
+			assertThat(SharedScanResultProvider.getCurrent()).isSameAs(this.scanResultProvider);
+
+			try (SharedScanResultProvider.Binding inner = SharedScanResultProvider.bind(null)) {
+				assertThat(SharedScanResultProvider.getCurrent()).isNull();
+			}
+
+			assertThat(SharedScanResultProvider.getCurrent()).isSameAs(this.scanResultProvider);
+		}
+
+		assertThat(SharedScanResultProvider.getCurrent()).isNull();
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2016-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.joinfaces;
+
+import java.io.IOException;
+import java.util.Collection;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.UrlResource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.mock;
+import static org.mockito.BDDMockito.spy;
+import static org.mockito.BDDMockito.times;
+import static org.mockito.BDDMockito.verify;
+
+class SpiUtilsTest {
+
+	private final PathMatchingResourcePatternResolver resourcePatternResolver = new PathMatchingResourcePatternResolver();
+
+	@Test
+	void findResourceNames() throws IOException {
+		assertThat(SpiUtils.findResourceNames(this.resourcePatternResolver))
+				.contains("META-INF/test.faces-config.xml")
+				.anyMatch(name -> name.endsWith(".taglib.xml"))
+				.allMatch(name -> name.startsWith("META-INF/"))
+				.doesNotContain("META-INF/faces-config.xml");
+	}
+
+	@Test
+	void getFacesConfigs() throws IOException {
+		Collection<Resource> facesConfigs = SpiUtils.getFacesConfigs(this.resourcePatternResolver);
+
+		assertThat(facesConfigs).anyMatch(resource -> "test.faces-config.xml".equals(resource.getFilename()));
+		assertThat(facesConfigs).anyMatch(resource -> "faces-config.xml".equals(resource.getFilename()));
+		assertThat(SpiUtils.getFacesConfigs(this.resourcePatternResolver)).isSameAs(facesConfigs);
+	}
+
+	@Test
+	void getFacesConfigs_classpathOrder() throws IOException {
+		ResourcePatternResolver resolver = mock(ResourcePatternResolver.class);
+		given(resolver.getClassLoader()).willReturn(getClass().getClassLoader());
+		given(resolver.getResources("classpath*:META-INF/*.xml")).willReturn(new Resource[]{
+				new UrlResource("file:/b/META-INF/z.faces-config.xml"),
+				new UrlResource("file:/a/META-INF/faces-config.xml"),
+				new UrlResource("file:/c/META-INF/a.faces-config.xml"),
+				new UrlResource("file:/d/META-INF/faces-config.xml"),
+		});
+
+		assertThat(SpiUtils.getFacesConfigs(resolver))
+				.extracting(Resource::getDescription)
+				.containsExactly(
+						"URL [file:/a/META-INF/faces-config.xml]",
+						"URL [file:/d/META-INF/faces-config.xml]",
+						"URL [file:/b/META-INF/z.faces-config.xml]",
+						"URL [file:/c/META-INF/a.faces-config.xml]"
+				);
+		assertThat(SpiUtils.findResourceNames(resolver))
+				.containsExactly("META-INF/z.faces-config.xml", "META-INF/a.faces-config.xml");
+	}
+
+	@Test
+	void getFaceletConfigs() throws IOException {
+		Collection<Resource> faceletConfigs = SpiUtils.getFaceletConfigs(this.resourcePatternResolver);
+
+		assertThat(faceletConfigs).isNotEmpty();
+		assertThat(faceletConfigs).allMatch(resource -> resource.getFilename().endsWith(".taglib.xml"));
+	}
+
+	@Test
+	void singleClasspathSearch() throws IOException {
+		ResourcePatternResolver resolver = spy(new PathMatchingResourcePatternResolver());
+
+		SpiUtils.getFacesConfigs(resolver);
+		SpiUtils.getFaceletConfigs(resolver);
+
+		verify(resolver, times(1)).getResources(anyString());
+	}
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2016-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.joinfaces;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.core.metrics.ApplicationStartup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StartupReportTest {
+
+	@AfterEach
+	void tearDown() {
+		StartupReport.setApplicationStartup(ApplicationStartup.DEFAULT);
+		StartupReport.clear();
+	}
+
+	@Test
+	void entries() {
+		StartupReport.clear();
+
+		try (StartupReport.Step step = StartupReport.start("test")) {
+			step.tag("foo", "bar");
+		}
+
+		assertThat(StartupReport.getEntries()).singleElement().satisfies(entry -> {
+			assertThat(entry.name()).isEqualTo("test");
+			assertThat(entry.tags()).containsEntry("foo", "bar");
+			assertThat(entry.duration()).isPositive();
+		});
+	}
+
+	@Test
+	void endTwice() {
+		StartupReport.clear();
+
+		StartupReport.Step step = StartupReport.start("test");
+		step.end();
+		step.end();
+
+		assertThat(StartupReport.getEntries()).hasSize(1);
+	}
+
+	@Test
+	void applicationStartup() {
+		BufferingApplicationStartup applicationStartup = new BufferingApplicationStartup(10);
+		StartupReport.setApplicationStartup(applicationStartup);
+
+		StartupReport.start("test").tag("foo", "bar").end();
+
+		assertThat(applicationStartup.getBufferedTimeline().getEvents()).singleElement()
+				.satisfies(event -> assertThat(event.getStartupStep().getName()).isEqualTo(StartupReport.STEP_PREFIX + "test"));
+	}
+
+	@Test
+	void backgroundStep() throws InterruptedException {
+		BufferingApplicationStartup applicationStartup = new BufferingApplicationStartup(10);
+		StartupReport.setApplicationStartup(applicationStartup);
+		StartupReport.clear();
+
+		StartupReport.Step step = StartupReport.startBackground("background");
+		assertThatThrownBy(step::getEntry).isInstanceOf(IllegalStateException.class);
+
+		Thread thread = new Thread(() -> step.tag("foo", "bar").end());
+		thread.start();
+		thread.join();
+
+		assertThat(StartupReport.getEntries()).isEmpty();
+		assertThat(applicationStartup.getBufferedTimeline().getEvents()).isEmpty();
+
+		StartupReport.publish(step.getEntry());
+
+		assertThat(StartupReport.getEntries()).containsExactly(step.getEntry());
+		assertThat(applicationStartup.getBufferedTimeline().getEvents()).singleElement()
+				.satisfies(event -> assertThat(event.getStartupStep().getName()).isEqualTo(StartupReport.STEP_PREFIX + "background"));
+	}
+
+	@Test
+	void maxEntries() {
+		StartupReport.clear();
+
+		for (int i = 0; i < StartupReport.MAX_ENTRIES + 10; i++) {
+			StartupReport.start("test-" + i).end();
+		}
+
+		assertThat(StartupReport.getEntries()).hasSize(StartupReport.MAX_ENTRIES);
+		assertThat(StartupReport.getEntries().get(0).name()).isEqualTo("test-10");
+	}
+
+	@Test
+	void drainEntries() {
+		StartupReport.clear();
+
+		StartupReport.start("test").end();
+
+		assertThat(StartupReport.drainEntries()).hasSize(1);
+		assertThat(StartupReport.getEntries()).isEmpty();
+	}
+}
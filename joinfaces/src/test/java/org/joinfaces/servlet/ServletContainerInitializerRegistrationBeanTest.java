@@ -16,6 +16,7 @@
 
 package org.joinfaces.servlet;
 
+import java.util.List;
 import java.util.Set;
 
 import jakarta.faces.component.UIViewAction;
@@ -67,6 +68,18 @@ public class ServletContainerInitializerRegistrationBeanTest {
 		assertThat(classes).contains(UIViewAction.class, MessageRenderer.class, InputNumberRenderer.class);
 	}
 
+	@Test
+	public void testAcceptedPackages() {
+		ServletContainerInitializerRegistrationBean<FacesInitializer> bean = new ServletContainerInitializerRegistrationBean<>(FacesInitializer.class);
+		bean.setAcceptedPackages(List.of("org.primefaces"));
+		bean.setScanMethodAndFieldAnnotations(false);
+
+		Set<Class<?>> classes = bean.getClasses(getClass().getClassLoader());
+
+		assertThat(classes).contains(InputNumberRenderer.class);
+		assertThat(classes).doesNotContain(MessageRenderer.class, DelegatingPhaseListenerMulticaster.class);
+	}
+
 	public static class NoHandlesTypes implements ServletContainerInitializer {
 		@Override
 		public void onStartup(Set<Class<?>> c, ServletContext ctx) {
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2016-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.joinfaces.session;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MicrometerSpringSessionFixObserverTest {
+
+	private SimpleMeterRegistry meterRegistry;
+
+	@BeforeEach
+	void setUp() {
+		this.meterRegistry = new SimpleMeterRegistry();
+	}
+
+	@Test
+	void testAttributesReSet() {
+		MicrometerSpringSessionFixObserver observer = new MicrometerSpringSessionFixObserver(this.meterRegistry);
+
+		observer.attributeReSet("foo", new ArrayList<>());
+		observer.attributesReSet(5, 2, Duration.ofMillis(1));
+
+		assertThat(this.meterRegistry.get("joinfaces.session-fix.attributes.read").summary().totalAmount()).isEqualTo(5);
+		assertThat(this.meterRegistry.get("joinfaces.session-fix.attributes.reset").summary().totalAmount()).isEqualTo(2);
+		assertThat(this.meterRegistry.get("joinfaces.session-fix.reset").timer().count()).isEqualTo(1);
+		assertThat(this.meterRegistry.find("joinfaces.session-fix.attribute.size").summary()).isNull();
+	}
+
+	@Test
+	void testEstimateSize() {
+		MicrometerSpringSessionFixObserver observer = new MicrometerSpringSessionFixObserver(this.meterRegistry, true);
+
+		List<String> value = new ArrayList<>();
+		value.add("foo");
+		observer.attributeReSet("foo", value);
+		observer.attributeReSet("bar", new Object());
+
+		assertThat(this.meterRegistry.get("joinfaces.session-fix.attribute.size").summary().count()).isEqualTo(1);
+		assertThat(this.meterRegistry.get("joinfaces.session-fix.attribute.size").summary().totalAmount()).isPositive();
+	}
+}
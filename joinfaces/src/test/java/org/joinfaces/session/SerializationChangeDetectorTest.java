@@ -0,0 +1,67 @@
+/*
+ * Copyright 2016-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.joinfaces.session;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SerializationChangeDetectorTest {
+
+	private SerializationChangeDetector changeDetector;
+
+	@BeforeEach
+	void setUp() {
+		this.changeDetector = new SerializationChangeDetector();
+	}
+
+	@Test
+	void unchanged() {
+		List<String> value = new ArrayList<>();
+		value.add("foo");
+
+		Object snapshot = this.changeDetector.snapshot(value);
+
+		assertThat(snapshot).isNotNull();
+		assertThat(this.changeDetector.hasChanged(value, snapshot)).isFalse();
+	}
+
+	@Test
+	void changed() {
+		List<String> value = new ArrayList<>();
+		value.add("foo");
+
+		Object snapshot = this.changeDetector.snapshot(value);
+		value.add("bar");
+
+		assertThat(this.changeDetector.hasChanged(value, snapshot)).isTrue();
+	}
+
+	@Test
+	void notSerializable() {
+		Object value = new Object();
+
+		Object snapshot = this.changeDetector.snapshot(value);
+
+		assertThat(snapshot).isNull();
+		assertThat(this.changeDetector.hasChanged(value, snapshot)).isTrue();
+	}
+}
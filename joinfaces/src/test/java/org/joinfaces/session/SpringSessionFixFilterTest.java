@@ -16,13 +16,27 @@
 
 package org.joinfaces.session;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 
 import org.junit.jupiter.api.Test;
 
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockHttpSession;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.any;
+import static org.mockito.BDDMockito.eq;
 import static org.mockito.BDDMockito.mock;
+import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.spy;
+import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.when;
 
 class SpringSessionFixFilterTest {
@@ -41,6 +55,22 @@ class SpringSessionFixFilterTest {
 		assertThat(requestWrapper.getSession()).isInstanceOf(SpringSessionFixFilter.RequestWrapper.SessionWrapper.class);
 	}
 
+	@Test
+	void testSessionWrapperReused() {
+		HttpServletRequest request = mock(HttpServletRequest.class);
+		HttpSession session = mock(HttpSession.class);
+		HttpSession newSession = mock(HttpSession.class);
+		when(request.getSession()).thenReturn(session);
+		when(request.getSession(true)).thenReturn(newSession);
+
+		SpringSessionFixFilter.RequestWrapper requestWrapper = new SpringSessionFixFilter.RequestWrapper(request);
+
+		HttpSession sessionWrapper = requestWrapper.getSession();
+
+		assertThat(requestWrapper.getSession()).isSameAs(sessionWrapper);
+		assertThat(requestWrapper.getSession(true)).isNotSameAs(sessionWrapper);
+	}
+
 	@SuppressWarnings("deprecation")
 	@Test
 	void testSessionWrapper() {
@@ -62,4 +92,102 @@ class SpringSessionFixFilterTest {
 		assertThat(requestWrapper.getReadAttributeNames()).isEmpty();
 	}
 
+	@Test
+	void testReSetAttributes() throws ServletException, IOException {
+		MockHttpSession mockSession = new MockHttpSession();
+		mockSession.setAttribute("list", new ArrayList<>());
+		mockSession.setAttribute("number", 42);
+		mockSession.setAttribute("unread", new ArrayList<>());
+		MockHttpSession session = spy(mockSession);
+
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setSession(session);
+
+		new SpringSessionFixFilter().doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+			HttpSession httpSession = ((HttpServletRequest) req).getSession();
+			httpSession.getAttribute("list");
+			httpSession.getAttribute("number");
+		});
+
+		then(session).should().setAttribute(eq("list"), any());
+		then(session).should(never()).setAttribute(eq("number"), any());
+		then(session).should(never()).setAttribute(eq("unread"), any());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void testChangeDetector() throws ServletException, IOException {
+		MockHttpSession mockSession = new MockHttpSession();
+		mockSession.setAttribute("changed", new ArrayList<>());
+		mockSession.setAttribute("unchanged", new ArrayList<>());
+		MockHttpSession session = spy(mockSession);
+
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setSession(session);
+
+		SpringSessionFixFilter filter = new SpringSessionFixFilter();
+		filter.setChangeDetector(new SerializationChangeDetector());
+
+		filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+			HttpSession httpSession = ((HttpServletRequest) req).getSession();
+			((List<String>) httpSession.getAttribute("changed")).add("foo");
+			httpSession.getAttribute("unchanged");
+		});
+
+		then(session).should().setAttribute(eq("changed"), any());
+		then(session).should(never()).setAttribute(eq("unchanged"), any());
+	}
+
+	@Test
+	void testObserver() throws ServletException, IOException {
+		MockHttpSession session = new MockHttpSession();
+		session.setAttribute("list", new ArrayList<>());
+		session.setAttribute("number", 42);
+
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setSession(session);
+
+		SpringSessionFixObserver observer = mock(SpringSessionFixObserver.class);
+		SpringSessionFixFilter filter = new SpringSessionFixFilter();
+		filter.setObserver(observer);
+
+		filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+			HttpSession httpSession = ((HttpServletRequest) req).getSession();
+			httpSession.getAttribute("list");
+			httpSession.getAttribute("number");
+		});
+
+		then(observer).should().attributeReSet(eq("list"), any());
+		then(observer).should().attributesReSet(eq(2), eq(1), any());
+	}
+
+	@Test
+	void testAttributePolicy() throws ServletException, IOException {
+		MockHttpSession mockSession = new MockHttpSession();
+		mockSession.setAttribute("string", "foo");
+		mockSession.setAttribute("included", "bar");
+		mockSession.setAttribute("excluded.list", new ArrayList<>());
+		mockSession.setAttribute("list", new ArrayList<>());
+		MockHttpSession session = spy(mockSession);
+
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setSession(session);
+
+		SpringSessionFixFilter filter = new SpringSessionFixFilter();
+		filter.setIncludedAttributeNames(List.of("included"));
+		filter.setExcludedAttributeNames(List.of("excluded.*"));
+
+		filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+			HttpSession httpSession = ((HttpServletRequest) req).getSession();
+			httpSession.getAttribute("string");
+			httpSession.getAttribute("included");
+			httpSession.getAttribute("excluded.list");
+			httpSession.getAttribute("list");
+		});
+
+		then(session).should(never()).setAttribute(eq("string"), any());
+		then(session).should().setAttribute(eq("included"), any());
+		then(session).should(never()).setAttribute(eq("excluded.list"), any());
+		then(session).should().setAttribute(eq("list"), any());
+	}
 }
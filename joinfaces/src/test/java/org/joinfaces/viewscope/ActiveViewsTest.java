@@ -0,0 +1,92 @@
+/*
+ * Copyright 2016-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.joinfaces.viewscope;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.mock;
+
+public class ActiveViewsTest {
+
+	private ViewScope.ActiveViews activeViews;
+
+	@BeforeEach
+	public void setUp() {
+		this.activeViews = new ViewScope.ActiveViews();
+	}
+
+	@Test
+	public void testLeastRecentlyUsedViewIsEvicted() {
+		ViewScope.DestructionCallbackWrapper wrapper1 = mock(ViewScope.DestructionCallbackWrapper.class);
+		ViewScope.DestructionCallbackWrapper wrapper2 = mock(ViewScope.DestructionCallbackWrapper.class);
+
+		assertThat(this.activeViews.touch("view1", null, null, wrapper1, 2)).isEmpty();
+		assertThat(this.activeViews.touch("view2", null, null, wrapper2, 2)).isEmpty();
+		assertThat(this.activeViews.touch("view1", null, null, null, 2)).isEmpty();
+
+		assertThat(this.activeViews.touch("view3", null, null, null, 2)).containsExactly(wrapper2);
+		assertThat(this.activeViews.getViewIds()).containsExactly("view1", "view3");
+	}
+
+	@Test
+	public void testUnregister() {
+		ViewScope.DestructionCallbackWrapper wrapper = mock(ViewScope.DestructionCallbackWrapper.class);
+
+		this.activeViews.touch("view1", null, null, wrapper, 1);
+		this.activeViews.unregister("view1", wrapper);
+
+		assertThat(this.activeViews.touch("view2", null, null, null, 1)).isEmpty();
+		assertThat(this.activeViews.getViewIds()).containsExactly("view2");
+	}
+
+	@Test
+	public void testRemove() {
+		this.activeViews.touch("view1", null, null, null, 1);
+		this.activeViews.remove("view1");
+
+		assertThat(this.activeViews.getViewIds()).isEmpty();
+	}
+
+	@Test
+	public void testEvictedBeansAreRemovedFromViewMap() {
+		Map<String, Object> viewMap1 = new HashMap<>();
+		viewMap1.put("bean", new Object());
+		viewMap1.put("other", "value");
+
+		this.activeViews.touch("view1", viewMap1, "bean", null, 1);
+		this.activeViews.touch("view2", new HashMap<>(), "bean", null, 1);
+
+		assertThat(viewMap1).containsOnlyKeys("other");
+	}
+
+	@Test
+	public void testModified() {
+		this.activeViews.touch("view1", null, "bean", null, 2);
+		assertThat(this.activeViews.resetModified()).isTrue();
+
+		this.activeViews.touch("view1", null, "bean", null, 2);
+		assertThat(this.activeViews.resetModified()).isFalse();
+
+		this.activeViews.touch("view2", null, "bean", null, 2);
+		assertThat(this.activeViews.resetModified()).isTrue();
+	}
+}
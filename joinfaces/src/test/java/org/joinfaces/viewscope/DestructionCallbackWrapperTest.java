@@ -20,6 +20,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.mock;
 import static org.mockito.BDDMockito.verify;
 
@@ -48,4 +50,15 @@ public class DestructionCallbackWrapperTest {
 		this.destructionCallbackWrapper.onSessionDestroy();
 		verify(this.callback).run();
 	}
+
+	@Test
+	public void testObserverNotified() {
+		ViewScopeObserver observer = mock(ViewScopeObserver.class);
+		this.destructionCallbackWrapper.setObserver(observer);
+
+		this.destructionCallbackWrapper.onViewDestroy();
+		this.destructionCallbackWrapper.onSessionDestroy();
+
+		verify(observer).destructionCallbackCalled(eq("bean"), eq(false), any(), any());
+	}
 }
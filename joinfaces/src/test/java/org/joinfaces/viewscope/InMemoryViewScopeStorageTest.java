@@ -0,0 +1,142 @@
+/*
+ * Copyright 2016-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.joinfaces.viewscope;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.mock;
+import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.verify;
+
+public class InMemoryViewScopeStorageTest {
+
+	@Test
+	public void testGetBeans() {
+		InMemoryViewScopeStorage storage = new InMemoryViewScopeStorage(10, 0);
+
+		Map<String, Object> beans = storage.getBeans("session", "view");
+		beans.put("foo", "bar");
+
+		assertThat(storage.getBeans("session", "view")).isSameAs(beans);
+		assertThat(storage.getBeans("session", "view2")).isNotSameAs(beans);
+		assertThat(storage.getBeans("session2", "view")).isNotSameAs(beans);
+		assertThat(storage.size()).isEqualTo(3);
+	}
+
+	@Test
+	public void testMaximumSize() {
+		InMemoryViewScopeStorage storage = new InMemoryViewScopeStorage(2, 0);
+		Runnable callback1 = mock(Runnable.class);
+		Runnable callback2 = mock(Runnable.class);
+
+		storage.getBeans("session1", "view").put("callback", new ViewScope.DestructionCallbackWrapper("bean", callback1));
+		storage.getBeans("session2", "view").put("callback", new ViewScope.DestructionCallbackWrapper("bean", callback2));
+		storage.getBeans("session1", "view");
+		storage.getBeans("session3", "view");
+
+		// The view of session2 has been evicted, but its callbacks only run in a request of session2.
+		verify(callback2, never()).run();
+		verify(callback1, never()).run();
+		assertThat(storage.size()).isEqualTo(2);
+
+		storage.getBeans("session2", "view");
+		verify(callback2).run();
+	}
+
+	@Test
+	public void testMaximumSize_sessionDestroyed() {
+		InMemoryViewScopeStorage storage = new InMemoryViewScopeStorage(1, 0);
+		ViewScope.DestructionCallbackWrapper wrapper = new ViewScope.DestructionCallbackWrapper("bean", mock(Runnable.class));
+
+		Map<String, Object> beans = storage.getBeans("session1", "view");
+		beans.put("foo", "bar");
+		beans.put("callback", wrapper);
+		storage.getBeans("session2", "view");
+
+		// Only the destruction callbacks of the evicted view are kept.
+		assertThat(storage.size()).isEqualTo(1);
+		assertThat(storage.removeSession("session1"))
+				.singleElement()
+				.satisfies(pending -> {
+					assertThat(pending).containsEntry("callback", wrapper);
+					assertThat(pending).doesNotContainKey("foo");
+				});
+		assertThat(storage.removeSession("session1")).isEmpty();
+	}
+
+	@Test
+	public void testMaximumSize_idleSessions() {
+		InMemoryViewScopeStorage storage = new InMemoryViewScopeStorage(2, 0);
+		Runnable[] callbacks = new Runnable[10];
+
+		for (int i = 0; i < callbacks.length; i++) {
+			callbacks[i] = mock(Runnable.class);
+			storage.getBeans("session" + i, "view").put("callback", new ViewScope.DestructionCallbackWrapper("bean", callbacks[i]));
+		}
+
+		// At most maximumSize evicted views of idle sessions are pending, the older ones have been destroyed.
+		for (int i = 0; i < 6; i++) {
+			verify(callbacks[i]).run();
+		}
+		for (int i = 6; i < callbacks.length; i++) {
+			verify(callbacks[i], never()).run();
+		}
+		assertThat(storage.size()).isEqualTo(2);
+	}
+
+	@Test
+	public void testMaximumSize_sameSession() {
+		InMemoryViewScopeStorage storage = new InMemoryViewScopeStorage(1, 0);
+		Runnable callback = mock(Runnable.class);
+
+		storage.getBeans("session", "view1").put("callback", new ViewScope.DestructionCallbackWrapper("bean", callback));
+		storage.getBeans("session", "view2");
+
+		verify(callback).run();
+	}
+
+	@Test
+	public void testMaximumSizePerSession() {
+		InMemoryViewScopeStorage storage = new InMemoryViewScopeStorage(10, 2);
+		Runnable callback = mock(Runnable.class);
+
+		storage.getBeans("session", "view1").put("callback", new ViewScope.DestructionCallbackWrapper("bean", callback));
+		storage.getBeans("session", "view2");
+		storage.getBeans("other", "view3");
+		storage.getBeans("session", "view4");
+
+		verify(callback).run();
+		assertThat(storage.size()).isEqualTo(3);
+	}
+
+	@Test
+	public void testRemove() {
+		InMemoryViewScopeStorage storage = new InMemoryViewScopeStorage(10, 0);
+		storage.getBeans("session", "view1");
+		storage.getBeans("session", "view2");
+		storage.getBeans("other", "view3");
+
+		assertThat(storage.removeView("session", "view1")).isNotNull();
+		assertThat(storage.removeView("session", "view1")).isNull();
+		assertThat(storage.removeSession("session")).hasSize(1);
+		assertThat(storage.removeSession("session")).isEmpty();
+		assertThat(storage.size()).isEqualTo(1);
+	}
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2016-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.joinfaces.viewscope;
+
+import java.time.Duration;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MicrometerViewScopeObserverTest {
+
+	private SimpleMeterRegistry meterRegistry;
+
+	private MicrometerViewScopeObserver observer;
+
+	@BeforeEach
+	public void setUp() {
+		this.meterRegistry = new SimpleMeterRegistry();
+		this.observer = new MicrometerViewScopeObserver(this.meterRegistry);
+	}
+
+	@Test
+	public void testBeanCreated() {
+		this.observer.beanCreated("foo");
+		this.observer.beanCreated("foo");
+		this.observer.beanCreated("bar");
+
+		assertThat(this.meterRegistry.get("joinfaces.view-scope.beans.created").tag("bean", "foo").counter().count()).isEqualTo(2);
+		assertThat(this.meterRegistry.get("joinfaces.view-scope.beans.created").tag("bean", "bar").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	public void testDestructionCallbackRegistered() {
+		this.observer.destructionCallbackRegistered("foo", 3);
+
+		assertThat(this.meterRegistry.get("joinfaces.view-scope.session.callbacks").summary().max()).isEqualTo(3);
+	}
+
+	@Test
+	public void testDestructionCallbackCalled() {
+		this.observer.destructionCallbackCalled("foo", false, Duration.ofSeconds(10), Duration.ofMillis(1));
+		this.observer.destructionCallbackCalled("foo", true, Duration.ofSeconds(20), Duration.ofMillis(2));
+		this.observer.destructionCallbackCalled("bar", true, Duration.ofSeconds(30), Duration.ofMillis(3));
+
+		assertThat(this.meterRegistry.get("joinfaces.view-scope.callback").tag("cause", "view").timer().count()).isEqualTo(1);
+		assertThat(this.meterRegistry.get("joinfaces.view-scope.callback").tag("cause", "session").timer().count()).isEqualTo(2);
+		assertThat(this.meterRegistry.get("joinfaces.view-scope.bean.lifetime").tag("cause", "session").timer().count()).isEqualTo(2);
+	}
+}
@@ -52,7 +52,7 @@ public class SessionListenerTest {
 		this.sessionListener.register(mock1);
 		this.sessionListener.register(mock2);
 
-		assertThat(this.sessionListener.getDestructionCallbackWrappers()).containsExactly(mock1, mock2);
+		assertThat(this.sessionListener.getDestructionCallbackWrappers()).containsExactlyInAnyOrder(mock1, mock2);
 
 		this.sessionListener.valueUnbound(null);
 
@@ -68,10 +68,27 @@ public class SessionListenerTest {
 		this.sessionListener.register(mock1);
 		this.sessionListener.register(mock2);
 
-		assertThat(this.sessionListener.getDestructionCallbackWrappers()).containsExactly(mock1, mock2);
+		assertThat(this.sessionListener.getDestructionCallbackWrappers()).containsExactlyInAnyOrder(mock1, mock2);
 
 		when(mock1.isCallbackCalled()).thenReturn(true);
 		this.sessionListener.cleanup();
 		assertThat(this.sessionListener.getDestructionCallbackWrappers()).containsExactly(mock2);
 	}
+
+	@Test
+	public void testBatchedCleanup() {
+		ViewScope.DestructionCallbackWrapper called = mock(ViewScope.DestructionCallbackWrapper.class);
+		when(called.isCallbackCalled()).thenReturn(true);
+		this.sessionListener.register(called);
+
+		for (int i = 1; i < ViewScope.SessionListener.CLEANUP_INTERVAL - 1; i++) {
+			this.sessionListener.register(mock(ViewScope.DestructionCallbackWrapper.class));
+		}
+		assertThat(this.sessionListener.getDestructionCallbackWrappers()).contains(called);
+
+		this.sessionListener.register(mock(ViewScope.DestructionCallbackWrapper.class));
+		assertThat(this.sessionListener.getDestructionCallbackWrappers())
+				.doesNotContain(called)
+				.hasSize(ViewScope.SessionListener.CLEANUP_INTERVAL - 1);
+	}
 }
@@ -16,8 +16,11 @@
 
 package org.joinfaces.viewscope;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import jakarta.faces.application.Application;
 import jakarta.faces.component.UIViewRoot;
 import jakarta.faces.context.FacesContext;
 import jakarta.faces.event.PreDestroyViewMapEvent;
@@ -30,8 +33,13 @@ import org.springframework.beans.factory.ObjectFactory;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.atLeastOnce;
 import static org.mockito.BDDMockito.doCallRealMethod;
 import static org.mockito.BDDMockito.mock;
+import static org.mockito.BDDMockito.spy;
+import static org.mockito.BDDMockito.times;
+import static org.mockito.BDDMockito.verify;
 import static org.mockito.BDDMockito.when;
 
 public class ViewScopeTest extends JsfIT {
@@ -87,6 +95,73 @@ public class ViewScopeTest extends JsfIT {
 		this.viewScope.remove(KEY);
 	}
 
+	@Test
+	public void testPreDestroyViewMapListenerSubscribedOnce() {
+		Application application = FacesContext.getCurrentInstance().getApplication();
+
+		this.viewScope.registerDestructionCallback("foo", () -> {
+		});
+		this.viewScope.registerDestructionCallback("bar", () -> {
+		});
+
+		verify(application, times(1)).subscribeToEvent(PreDestroyViewMapEvent.class, this.viewScope.getPreDestroyViewMapListener());
+	}
+
+	@Test
+	public void testMaxActiveViews() {
+		ViewScope boundedViewScope = new ViewScope(1);
+		FacesContext facesContext = FacesContext.getCurrentInstance();
+		UIViewRoot viewRoot = facesContext.getViewRoot();
+		Map<String, Object> sessionMap = spy(new HashMap<>());
+		when(facesContext.getExternalContext().getSessionMap()).thenReturn(sessionMap);
+
+		Map<String, Object> viewMap1 = new HashMap<>();
+		Map<String, Object> viewMap2 = new HashMap<>();
+		Runnable callback = mock(Runnable.class);
+
+		when(viewRoot.getViewMap()).thenReturn(viewMap1);
+		Object bean1 = boundedViewScope.get(KEY, Object::new);
+		boundedViewScope.registerDestructionCallback(KEY, callback);
+
+		when(viewRoot.getViewMap()).thenReturn(viewMap2);
+		boundedViewScope.get(KEY, Object::new);
+		verify(callback).run();
+		// The evicted bean is not referenced by its view anymore.
+		assertThat(viewMap1).doesNotContainKey(KEY);
+		// The changed ActiveViews are set again, so replicating session stores persist them.
+		verify(sessionMap, atLeastOnce()).put(eq(ViewScope.ActiveViews.class.getName()), any());
+
+		when(viewRoot.getViewMap()).thenReturn(viewMap1);
+		assertThat(boundedViewScope.get(KEY, Object::new)).isNotSameAs(bean1);
+	}
+
+	@Test
+	public void testStorage() {
+		InMemoryViewScopeStorage storage = new InMemoryViewScopeStorage(10, 0);
+		this.viewScope.setStorage(storage);
+		FacesContext facesContext = FacesContext.getCurrentInstance();
+		Map<String, Object> sessionMap = new HashMap<>();
+		when(facesContext.getExternalContext().getSessionMap()).thenReturn(sessionMap);
+		Runnable callback = mock(Runnable.class);
+
+		Object bean = this.viewScope.get(KEY, Object::new);
+		this.viewScope.registerDestructionCallback(KEY, callback);
+
+		Map<String, Object> viewMap = facesContext.getViewRoot().getViewMap();
+		assertThat(viewMap).containsOnlyKeys(ViewScope.VIEW_ID_KEY);
+		assertThat(this.viewScope.get(KEY, Object::new)).isSameAs(bean);
+		assertThat(storage.size()).isEqualTo(1);
+
+		PreDestroyViewMapEvent event = mock(PreDestroyViewMapEvent.class);
+		UIViewRoot viewRoot = facesContext.getViewRoot();
+		when(event.getSource()).thenReturn(viewRoot);
+		when(viewRoot.getViewMap(false)).thenReturn(viewMap);
+		this.viewScope.getPreDestroyViewMapListener().processEvent(event);
+
+		verify(callback).run();
+		assertThat(storage.size()).isZero();
+	}
+
 	@Test
 	public void processEvent() {
 		PreDestroyViewMapEvent event = mock(PreDestroyViewMapEvent.class);
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2016-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.joinfaces.weld;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.List;
+import java.util.Set;
+
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.context.NormalScope;
+import jakarta.enterprise.inject.Stereotype;
+import jakarta.faces.view.ViewScoped;
+
+import io.github.classgraph.ScanResult;
+import org.jboss.weld.environment.deployment.discovery.BeanArchiveBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClassGraphDiscoveryStrategyTest {
+
+	@Test
+	void createClassGraph() {
+		BeanArchiveBuilder builder = new BeanArchiveBuilder();
+		builder.addClass(ClassGraphDiscoveryStrategyTest.class.getName());
+
+		try (ScanResult scanResult = new ClassGraphDiscoveryStrategy().createClassGraph(List.of(builder)).scan()) {
+			assertThat(scanResult.getClassInfo(ClassGraphDiscoveryStrategyTest.class.getName())).isNotNull();
+			assertThat(scanResult.getClassInfo(ClassGraphDiscoveryStrategy.class.getName())).isNotNull();
+			assertThat(scanResult.getClassInfo(ScanResult.class.getName())).isNull();
+		}
+	}
+
+	@Test
+	void hasBeanDefiningAnnotation_metaAnnotations() {
+		ClassGraphDiscoveryStrategy strategy = new ClassGraphDiscoveryStrategy();
+		strategy.setInitialBeanDefiningAnnotations(Set.of(Dependent.class, NormalScope.class, Stereotype.class));
+
+		BeanArchiveBuilder builder = new BeanArchiveBuilder();
+		builder.addClass(ViewScopedBean.class.getName());
+		builder.addClass(StereotypeBean.class.getName());
+		builder.addClass(PlainClass.class.getName());
+
+		try (ScanResult scanResult = strategy.createClassGraph(List.of(builder)).scan()) {
+			assertThat(strategy.hasBeanDefiningAnnotation(scanResult.getClassInfo(ViewScopedBean.class.getName()))).isTrue();
+			assertThat(strategy.hasBeanDefiningAnnotation(scanResult.getClassInfo(StereotypeBean.class.getName()))).isTrue();
+			assertThat(strategy.hasBeanDefiningAnnotation(scanResult.getClassInfo(PlainClass.class.getName()))).isFalse();
+		}
+	}
+
+	@Stereotype
+	@Retention(RetentionPolicy.RUNTIME)
+	@interface TestStereotype {
+	}
+
+	@ViewScoped
+	static class ViewScopedBean {
+	}
+
+	@TestStereotype
+	static class StereotypeBean {
+	}
+
+	static class PlainClass {
+	}
+}
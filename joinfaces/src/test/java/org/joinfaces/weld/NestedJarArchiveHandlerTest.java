@@ -0,0 +1,118 @@
+/*
+ * Copyright 2016-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.joinfaces.weld;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.jboss.weld.environment.deployment.discovery.BeanArchiveBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NestedJarArchiveHandlerTest {
+
+	@TempDir
+	File tempDir;
+
+	private File fatJar;
+
+	private NestedJarArchiveHandler handler;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		ByteArrayOutputStream nestedJar = new ByteArrayOutputStream();
+		try (ZipOutputStream zipOutputStream = new ZipOutputStream(nestedJar)) {
+			addEntry(zipOutputStream, "META-INF/beans.xml");
+			addEntry(zipOutputStream, "com/example/lib/LibBean.class");
+			addEntry(zipOutputStream, "META-INF/versions/11/com/example/lib/LibBean.class");
+		}
+		byte[] nestedJarBytes = nestedJar.toByteArray();
+
+		this.fatJar = new File(this.tempDir, "app.jar");
+		try (ZipOutputStream zipOutputStream = new ZipOutputStream(new FileOutputStream(this.fatJar))) {
+			addEntry(zipOutputStream, "BOOT-INF/classes/META-INF/beans.xml");
+			addEntry(zipOutputStream, "BOOT-INF/classes/com/example/AppBean.class");
+
+			// Spring Boot stores nested jars uncompressed.
+			ZipEntry entry = new ZipEntry("BOOT-INF/lib/lib.jar");
+			CRC32 crc = new CRC32();
+			crc.update(nestedJarBytes);
+			entry.setMethod(ZipEntry.STORED);
+			entry.setSize(nestedJarBytes.length);
+			entry.setCrc(crc.getValue());
+			zipOutputStream.putNextEntry(entry);
+			zipOutputStream.write(nestedJarBytes);
+			zipOutputStream.closeEntry();
+		}
+
+		this.handler = new NestedJarArchiveHandler();
+	}
+
+	@AfterEach
+	void tearDown() throws IOException {
+		this.handler.close();
+	}
+
+	@Test
+	void handle_nestedJar() {
+		BeanArchiveBuilder builder = this.handler.handle("jar:nested:" + this.fatJar.getPath() + "/!BOOT-INF/lib/lib.jar!/META-INF/beans.xml");
+
+		assertThat(builder).isNotNull();
+		assertThat(builder.getClasses()).containsExactly("com.example.lib.LibBean");
+	}
+
+	@Test
+	void handle_bootInfClasses() {
+		BeanArchiveBuilder builder = this.handler.handle("jar:nested:" + this.fatJar.getPath() + "/!BOOT-INF/classes/!/META-INF/beans.xml");
+
+		assertThat(builder).isNotNull();
+		assertThat(builder.getClasses()).containsExactly("com.example.AppBean");
+	}
+
+	@Test
+	void close() throws IOException {
+		String reference = "jar:nested:" + this.fatJar.getPath() + "/!BOOT-INF/lib/lib.jar!/META-INF/beans.xml";
+		assertThat(this.handler.handle(reference)).isNotNull();
+
+		this.handler.close();
+
+		// The fat jar is indexed again after the handler has been closed.
+		BeanArchiveBuilder builder = this.handler.handle(reference);
+		assertThat(builder).isNotNull();
+		assertThat(builder.getClasses()).containsExactly("com.example.lib.LibBean");
+	}
+
+	@Test
+	void handle_otherReference() {
+		assertThat(this.handler.handle(this.fatJar.toURI().toString())).isNull();
+		assertThat(this.handler.handle("jar:nested:" + this.fatJar.getPath())).isNull();
+	}
+
+	private static void addEntry(ZipOutputStream zipOutputStream, String name) throws IOException {
+		zipOutputStream.putNextEntry(new ZipEntry(name));
+		zipOutputStream.closeEntry();
+	}
+}
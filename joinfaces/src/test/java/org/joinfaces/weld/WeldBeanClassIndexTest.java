@@ -0,0 +1,104 @@
+/*
+ * Copyright 2016-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.joinfaces.weld;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.context.NormalScope;
+import jakarta.enterprise.inject.Stereotype;
+import jakarta.faces.view.ViewScoped;
+
+import io.github.classgraph.ClassGraph;
+import io.github.classgraph.ScanResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WeldBeanClassIndexTest {
+
+	@TempDir
+	File tempDir;
+
+	@Test
+	void buildIndex() {
+		Map<String, Set<String>> index;
+		try (ScanResult scanResult = new ClassGraph()
+				.enableAnnotationInfo()
+				.acceptClasses(ScopedBean.class.getName(), DependentBean.class.getName(), PlainClass.class.getName(), ApplicationScoped.class.getName(),
+						ViewScopedBean.class.getName(), ViewScoped.class.getName(), StereotypeBean.class.getName(), TestStereotype.class.getName())
+				.scan()) {
+			index = WeldBeanClassIndex.buildIndex(scanResult);
+		}
+
+		assertThat(index).containsEntry(ScopedBean.class.getName(), Set.of(ApplicationScoped.class.getName(), NormalScope.class.getName()));
+		assertThat(index).containsEntry(ViewScopedBean.class.getName(), Set.of(ViewScoped.class.getName(), NormalScope.class.getName()));
+		assertThat(index).containsEntry(StereotypeBean.class.getName(), Set.of(TestStereotype.class.getName(), Stereotype.class.getName()));
+		assertThat(index).containsEntry(DependentBean.class.getName(), Set.of(Dependent.class.getName()));
+		assertThat(index).doesNotContainKey(PlainClass.class.getName());
+	}
+
+	@Test
+	void readPreparedIndex() throws IOException {
+		File file = new File(tempDir, "weld-bean-classes.list");
+		Files.writeString(file.toPath(), "com.example.Foo=jakarta.enterprise.context.ApplicationScoped\n\ncom.example.Bar=a.A,b.B\n", StandardCharsets.UTF_8);
+
+		Map<String, Set<String>> index = WeldBeanClassIndex.readPreparedIndex(file.toURI().toURL());
+
+		assertThat(index).hasSize(2);
+		assertThat(index.get("com.example.Foo")).containsExactly("jakarta.enterprise.context.ApplicationScoped");
+		assertThat(index.get("com.example.Bar")).containsExactlyInAnyOrder("a.A", "b.B");
+	}
+
+	@Test
+	void readPreparedIndex_missing() {
+		assertThat(WeldBeanClassIndex.readPreparedIndex(null)).isNull();
+	}
+
+	@ApplicationScoped
+	public static class ScopedBean {
+	}
+
+	@Dependent
+	public static class DependentBean {
+	}
+
+	public static class PlainClass {
+	}
+
+	@ViewScoped
+	public static class ViewScopedBean {
+	}
+
+	@Stereotype
+	@Retention(RetentionPolicy.RUNTIME)
+	public @interface TestStereotype {
+	}
+
+	@TestStereotype
+	public static class StereotypeBean {
+	}
+}